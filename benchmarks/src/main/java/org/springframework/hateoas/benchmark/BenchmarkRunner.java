@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks matching the regular expression given as first argument (all by default) with the GC profiler
+ * enabled, so that allocation rates are reported alongside throughput. Results are written to
+ * {@code target/benchmark-results.json} to be compared between runs.
+ *
+ * @author agent
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+
+		Options options = new OptionsBuilder() //
+				.include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*") //
+				.addProfiler(GCProfiler.class) //
+				.resultFormat(ResultFormatType.JSON) //
+				.result("target/benchmark-results.json") //
+				.build();
+
+		new Runner(options).run();
+	}
+}
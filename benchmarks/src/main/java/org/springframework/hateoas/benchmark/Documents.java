@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+/**
+ * Deterministically generated representations used as benchmark input, so that results don't depend on any external
+ * resources.
+ *
+ * @author agent
+ */
+class Documents {
+
+	private Documents() {}
+
+	/**
+	 * Returns a HAL document containing a self link, a templated search link, an array of the given number of
+	 * {@code ex:orders} links and an embedded collection of the given number of customers.
+	 *
+	 * @param links the number of order links and embedded items to render.
+	 * @return
+	 */
+	public static String halDocument(int links) {
+
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\"_links\":{");
+		builder.append("\"self\":{\"href\":\"http://localhost:8080/customers\"},");
+		builder.append("\"search\":{\"href\":\"http://localhost:8080/customers/search{?q}\",\"templated\":true},");
+		builder.append("\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"ex\",\"templated\":true}],");
+		builder.append("\"ex:orders\":[");
+
+		for (int i = 0; i < links; i++) {
+			builder.append(i == 0 ? "" : ",");
+			builder.append("{\"href\":\"http://localhost:8080/orders/").append(i).append("\"}");
+		}
+
+		builder.append("]},\"_embedded\":{\"customers\":[");
+
+		for (int i = 0; i < links; i++) {
+			builder.append(i == 0 ? "" : ",");
+			builder.append("{\"firstname\":\"Dave").append(i).append("\",\"lastname\":\"Matthews\",");
+			builder.append("\"_links\":{\"self\":{\"href\":\"http://localhost:8080/customers/").append(i).append("\"}}}");
+		}
+
+		return builder.append("]}}").toString();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.DefaultCurieProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for rendering {@link Resources} and {@link PagedResources} with embedded items and curies using the
+ * {@link Jackson2HalModule}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HalSerializationBenchmark {
+
+	@Param({ "10", "100", "1000" }) int items;
+
+	ObjectMapper mapper;
+	Resources<Resource<Customer>> resources;
+	PagedResources<Resource<Customer>> pagedResources;
+
+	@Setup
+	public void setUp() {
+
+		this.mapper = new ObjectMapper();
+		this.mapper.registerModule(new Jackson2HalModule());
+		this.mapper.setHandlerInstantiator(new HalHandlerInstantiator(new DefaultRelProvider(), new DefaultCurieProvider(
+				"ex", new UriTemplate("http://localhost:8080/rels/{rel}"))));
+
+		List<Resource<Customer>> content = new ArrayList<Resource<Customer>>(items);
+
+		for (int i = 0; i < items; i++) {
+
+			String self = "http://localhost:8080/customers/" + i;
+
+			content.add(new Resource<Customer>(new Customer("Dave" + i, "Matthews"), new Link(self), new Link(self
+					+ "/orders{?page,size}", "orders"), new Link(self + "/address", "address")));
+		}
+
+		Link self = new Link("http://localhost:8080/customers");
+		Link search = new Link("http://localhost:8080/customers/search", "search");
+
+		this.resources = new Resources<Resource<Customer>>(content, self, search);
+		this.pagedResources = new PagedResources<Resource<Customer>>(content, new PageMetadata(items, 0, items * 10),
+				self, search, new Link("http://localhost:8080/customers?page=1", Link.REL_NEXT));
+	}
+
+	@Benchmark
+	public byte[] serializeResources() throws JsonProcessingException {
+		return mapper.writeValueAsBytes(resources);
+	}
+
+	@Benchmark
+	public byte[] serializePagedResources() throws JsonProcessingException {
+		return mapper.writeValueAsBytes(pagedResources);
+	}
+
+	public static class Customer {
+
+		private final String firstname, lastname;
+
+		public Customer(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+	}
+}
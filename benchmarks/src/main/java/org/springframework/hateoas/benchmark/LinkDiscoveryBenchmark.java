@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
+import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
+
+/**
+ * Benchmarks for looking up links in HAL documents using the streaming {@link HalLinkDiscoverer} as done by Traverson
+ * for every hop, compared to a plain {@link JsonPathLinkDiscoverer}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LinkDiscoveryBenchmark {
+
+	@Param({ "10", "100" }) int links;
+
+	MultiRelLinkDiscoverer discoverer;
+	LinkDiscoverer jsonPathDiscoverer;
+	String document;
+
+	@Setup
+	public void setUp() {
+
+		this.discoverer = new HalLinkDiscoverer();
+		this.jsonPathDiscoverer = new JsonPathLinkDiscoverer("$._links..['%s']..href", MediaTypes.HAL_JSON);
+		this.document = Documents.halDocument(links);
+	}
+
+	@Benchmark
+	public Link findSingleLink() {
+		return discoverer.findLinkWithRel("search", document);
+	}
+
+	@Benchmark
+	public List<Link> findLinkArray() {
+		return discoverer.findLinksWithRel("ex:orders", document);
+	}
+
+	@Benchmark
+	public Links findSeveralRelsAtOnce() {
+		return discoverer.findLinks(document, "self", "search", "curies");
+	}
+
+	@Benchmark
+	public Link findSingleLinkUsingJsonPath() {
+		return jsonPathDiscoverer.findLinkWithRel("search", document);
+	}
+
+	@Benchmark
+	public List<Link> findLinkArrayUsingJsonPath() {
+		return jsonPathDiscoverer.findLinksWithRel("ex:orders", document);
+	}
+}
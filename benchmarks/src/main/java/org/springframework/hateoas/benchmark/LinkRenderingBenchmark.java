@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.core.LinkTemplate;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderFactory;
+import org.springframework.hateoas.mvc.UriComponentsContributor;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Benchmarks for building links to controller methods. Compares the direct rendering used by default with the
+ * {@link UriComponentsBuilder} based rendering that is used as fallback.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LinkRenderingBenchmark {
+
+	static final List<Long> IDS = Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+	ControllerLinkBuilderFactory factory, fallbackFactory;
+	Method method;
+
+	@Setup
+	public void setUp() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		this.method = ReflectionUtils.findMethod(CustomerController.class, "items", Long.class, Long.class, int.class,
+				int.class, String.class);
+
+		this.factory = new ControllerLinkBuilderFactory();
+
+		// A contributor supporting all parameters disables direct rendering
+		this.fallbackFactory = new ControllerLinkBuilderFactory();
+		this.fallbackFactory.setUriComponentsContributors(Collections.singletonList(new NoOpUriComponentsContributor()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Link proxyBasedLink() {
+		return linkTo(methodOn(CustomerController.class).orders(4711L, 1, 20)).withSelfRel();
+	}
+
+	@Benchmark
+	public Link severalParameters() {
+		return linkTo(methodOn(CustomerController.class).items(4711L, 42L, 1, 20, "name")).withSelfRel();
+	}
+
+	@Benchmark
+	public Link proxyFreeLink() {
+		return linkToMethod(method, 4711L, 42L, 1, 20, "name").withSelfRel();
+	}
+
+	@Benchmark
+	public Link uriComponentsBasedLink() {
+		return fallbackFactory.linkTo(methodOn(CustomerController.class).orders(4711L, 1, 20)).withSelfRel();
+	}
+
+	@Benchmark
+	public List<Link> linksForIdsOneByOne() {
+
+		List<Link> links = new ArrayList<Link>(IDS.size());
+
+		for (Long id : IDS) {
+			links.add(factory.linkTo(methodOn(CustomerController.class).orders(id, 1, 20)).withSelfRel());
+		}
+
+		return links;
+	}
+
+	@Benchmark
+	public List<Link> linksForIdsUsingTemplate() {
+
+		LinkTemplate template = factory.linkTemplateTo(methodOn(CustomerController.class).orders(0L, 1, 20), "id");
+		return template.expand(IDS, Link.REL_SELF);
+	}
+
+	@Benchmark
+	public Link appendingSegments() {
+		return linkTo(CustomerController.class).slash(4711L).slash("orders").withSelfRel();
+	}
+
+	@RequestMapping("/customers")
+	static class CustomerController {
+
+		@RequestMapping("/{id}/orders")
+		HttpEntity<Void> orders(@PathVariable Long id, @RequestParam int page, @RequestParam int size) {
+			return null;
+		}
+
+		@RequestMapping("/{id}/orders/{orderId}/items")
+		HttpEntity<Void> items(@PathVariable Long id, @PathVariable Long orderId, @RequestParam int page,
+				@RequestParam int size, @RequestParam String sort) {
+			return null;
+		}
+	}
+
+	static class NoOpUriComponentsContributor implements UriComponentsContributor {
+
+		@Override
+		public boolean supportsParameter(MethodParameter parameter) {
+			return true;
+		}
+
+		@Override
+		public void enhance(UriComponentsBuilder builder, MethodParameter parameter, Object value) {}
+	}
+}
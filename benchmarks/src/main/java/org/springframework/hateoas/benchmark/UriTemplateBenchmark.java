@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
+
+/**
+ * Benchmarks for parsing and expanding {@link UriTemplate}s.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class UriTemplateBenchmark {
+
+	static final String TEMPLATE = "http://localhost:8080/customers/{id}/orders{?page,size,sort}";
+
+	UriTemplate template;
+	Map<String, Object> parameters;
+	Map<String, Object> parametersRequiringEncoding;
+
+	@Setup
+	public void setUp() {
+
+		this.template = new UriTemplate(TEMPLATE);
+
+		this.parameters = new HashMap<String, Object>();
+		this.parameters.put("id", 4711);
+		this.parameters.put("page", 1);
+		this.parameters.put("size", 20);
+
+		this.parametersRequiringEncoding = new HashMap<String, Object>(parameters);
+		this.parametersRequiringEncoding.put("sort", "lastname,desc");
+	}
+
+	@Benchmark
+	public UriTemplate parse() {
+		return new UriTemplate(TEMPLATE);
+	}
+
+	@Benchmark
+	public UriTemplate lookup() {
+		return UriTemplate.of(TEMPLATE);
+	}
+
+	@Benchmark
+	public URI expandWithMap() {
+		return template.expand(parameters);
+	}
+
+	@Benchmark
+	public URI expandWithArray() {
+		return template.expand(4711, 1, 20);
+	}
+
+	@Benchmark
+	public URI expandRequiringEncoding() {
+		return template.expand(parametersRequiringEncoding);
+	}
+
+	@Benchmark
+	public Link plainLink() {
+		return new Link("http://localhost:8080/customers/4711", "customer");
+	}
+
+	@Benchmark
+	public Link templatedLink() {
+		return new Link(TEMPLATE, "orders");
+	}
+}
@@ -37,6 +37,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  * Value object for links.
  * 
  * @author Oliver Gierke
+ * @author agent
  */
 @XmlType(name = "link", namespace = Link.ATOM_NAMESPACE)
 @JsonIgnoreProperties("templated")
@@ -73,7 +74,18 @@ public class Link implements Serializable {
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+
+		Assert.hasText(href, "Href must not be null or empty!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		if (mightBeTemplate(href)) {
+			this.template = UriTemplate.of(href);
+			this.href = template.toString();
+		} else {
+			this.href = href;
+		}
+
+		this.rel = rel;
 	}
 
 	/**
@@ -143,7 +155,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<String> getVariableNames() {
-		return getUriTemplate().getVariableNames();
+		return mightBeTemplate(href) ? getUriTemplate().getVariableNames() : Collections.<String> emptyList();
 	}
 
 	/**
@@ -153,7 +165,7 @@ public class Link implements Serializable {
 	 */
 	@JsonIgnore
 	public List<TemplateVariable> getVariables() {
-		return getUriTemplate().getVariables();
+		return mightBeTemplate(href) ? getUriTemplate().getVariables() : Collections.<TemplateVariable> emptyList();
 	}
 
 	/**
@@ -162,7 +174,7 @@ public class Link implements Serializable {
 	 * @return
 	 */
 	public boolean isTemplated() {
-		return !getUriTemplate().getVariables().isEmpty();
+		return mightBeTemplate(href) && !getUriTemplate().getVariables().isEmpty();
 	}
 
 	/**
@@ -188,12 +200,23 @@ public class Link implements Serializable {
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = mightBeTemplate(href) ? UriTemplate.of(href) : new UriTemplate(href);
 		}
 
 		return template;
 	}
 
+	/**
+	 * Returns whether the given href might be a URI template, i.e. whether it contains an opening curly brace at all. Allows
+	 * to skip parsing the href for the vast majority of links that are not templated.
+	 * 
+	 * @param href must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean mightBeTemplate(String href) {
+		return href.indexOf('{') != -1;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
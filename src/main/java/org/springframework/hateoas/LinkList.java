@@ -0,0 +1,230 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * {@link List} of {@link Link}s allowing to look up links by their rel. Small lists are simply scanned, larger ones are
+ * looked up in an index by rel that is built on first access and dropped on each modification of the list. The list is
+ * not thread-safe for modifications.
+ *
+ * @author agent
+ */
+final class LinkList extends AbstractList<Link> implements RandomAccess, Serializable {
+
+	private static final long serialVersionUID = -2732315768283645364L;
+
+	static final int INDEX_THRESHOLD = 8;
+
+	private final ArrayList<Link> links;
+	private transient volatile Map<String, List<Link>> index;
+
+	/**
+	 * Creates a new, empty {@link LinkList}.
+	 */
+	public LinkList() {
+		this.links = new ArrayList<Link>();
+	}
+
+	/**
+	 * Creates a new {@link LinkList} containing the given {@link Link}s.
+	 *
+	 * @param links must not be {@literal null}.
+	 */
+	public LinkList(Collection<Link> links) {
+		this.links = new ArrayList<Link>(links);
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given rel from the given {@link List}. Uses the index if the given
+	 * {@link List} is a {@link LinkList}, which might not be the case if it was set reflectively, e.g. during
+	 * deserialization.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param rel can be {@literal null}.
+	 * @return the {@link Link} with the given rel or {@literal null} if none found.
+	 */
+	static Link getLink(List<Link> links, String rel) {
+
+		if (links instanceof LinkList) {
+			return ((LinkList) links).getLink(rel);
+		}
+
+		for (Link link : links) {
+			if (link.getRel().equals(rel)) {
+				return link;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given rel.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return the {@link Link} with the given rel or {@literal null} if none found.
+	 */
+	public Link getLink(String rel) {
+
+		if (links.size() <= INDEX_THRESHOLD) {
+
+			for (int i = 0; i < links.size(); i++) {
+
+				Link link = links.get(i);
+
+				if (link != null && link.getRel().equals(rel)) {
+					return link;
+				}
+			}
+
+			return null;
+		}
+
+		List<Link> result = getIndex().get(rel);
+		return result == null ? null : result.get(0);
+	}
+
+	/**
+	 * Eagerly builds the index for the current {@link Link}s in case the list is big enough to use one.
+	 *
+	 * @return the current instance.
+	 */
+	LinkList index() {
+
+		if (links.size() > INDEX_THRESHOLD) {
+			getIndex();
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	public Link get(int index) {
+		return links.get(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return links.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#set(int, java.lang.Object)
+	 */
+	@Override
+	public Link set(int index, Link element) {
+
+		Link previous = links.set(index, element);
+		this.index = null;
+
+		return previous;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#add(int, java.lang.Object)
+	 */
+	@Override
+	public void add(int index, Link element) {
+
+		links.add(index, element);
+		modified();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#remove(int)
+	 */
+	@Override
+	public Link remove(int index) {
+
+		Link removed = links.remove(index);
+		modified();
+
+		return removed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#removeRange(int, int)
+	 */
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+
+		links.subList(fromIndex, toIndex).clear();
+		modified();
+	}
+
+	private void modified() {
+
+		this.modCount++;
+		this.index = null;
+	}
+
+	private Map<String, List<Link>> getIndex() {
+
+		Map<String, List<Link>> index = this.index;
+
+		if (index != null) {
+			return index;
+		}
+
+		Map<String, List<Link>> result = new HashMap<String, List<Link>>(links.size() * 2);
+
+		for (Link link : links) {
+
+			if (link == null) {
+				continue;
+			}
+
+			List<Link> linksForRel = result.get(link.getRel());
+
+			if (linksForRel == null) {
+				linksForRel = new ArrayList<Link>(1);
+				result.put(link.getRel(), linksForRel);
+			}
+
+			linksForRel.add(link);
+		}
+
+		for (Map.Entry<String, List<Link>> entry : result.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+
+		this.index = result;
+
+		return result;
+	}
+}
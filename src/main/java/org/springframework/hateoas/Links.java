@@ -32,15 +32,16 @@ public class Links implements Iterable<Link> {
 
 	static final Links NO_LINKS = new Links(Collections.<Link> emptyList());
 
-	private final List<Link> links;
+	private final LinkList links;
 
 	/**
-	 * Creates a new {@link Links} instance from the given {@link Link}s.
+	 * Creates a new {@link Links} instance from the given {@link Link}s. The given {@link List} is copied, so that later
+	 * changes to it are not reflected in the {@link Links} instance.
 	 * 
 	 * @param links
 	 */
 	public Links(List<Link> links) {
-		this.links = links == null ? Collections.<Link> emptyList() : Collections.unmodifiableList(links);
+		this.links = links == null ? new LinkList() : new LinkList(links).index();
 	}
 
 	/**
@@ -59,14 +60,7 @@ public class Links implements Iterable<Link> {
 	 * @return the {@link Link} with the given rel or {@literal null} if none found.
 	 */
 	public Link getLink(String rel) {
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				return link;
-			}
-		}
-
-		return null;
+		return links.getLink(rel);
 	}
 
 	/**
@@ -148,7 +142,7 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public Iterator<Link> iterator() {
-		return links.iterator();
+		return Collections.unmodifiableList(links).iterator();
 	}
 
 	/* 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.io.InputStream;
+
+/**
+ * Extension of {@link LinkDiscoverer} for implementations able to look up the links for several relation types while
+ * parsing the representation only once. Kept separate from {@link LinkDiscoverer} so that existing implementations
+ * don't have to implement it. Clients should check for it and fall back to
+ * {@link LinkDiscoverer#findLinksWithRel(String, String)} for each relation type otherwise.
+ * 
+ * @author agent
+ * @since 0.18
+ */
+public interface MultiRelLinkDiscoverer extends LinkDiscoverer {
+
+	/**
+	 * Returns all links with the given relation types found in the given {@link String} representation, parsing the
+	 * representation only once.
+	 * 
+	 * @param representation must not be {@literal null} or empty.
+	 * @param rels the relation types to look up links for. Implementations may return all links found if none are given.
+	 * @return the {@link Links} found, will never be {@literal null}.
+	 */
+	Links findLinks(String representation, String... rels);
+
+	/**
+	 * Returns all links with the given relation types found in the given {@link InputStream} representation, parsing
+	 * the representation only once.
+	 * 
+	 * @param representation must not be {@literal null}.
+	 * @param rels the relation types to look up links for. Implementations may return all links found if none are given.
+	 * @return the {@link Links} found, will never be {@literal null}.
+	 */
+	Links findLinks(InputStream representation, String... rels);
+}
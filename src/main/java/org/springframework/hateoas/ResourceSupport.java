@@ -15,7 +15,6 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -30,13 +29,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * Base class for DTOs to collect links.
  * 
  * @author Oliver Gierke
+ * @author agent
  */
 public class ResourceSupport implements Identifiable<Link> {
 
 	private final List<Link> links;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<Link>();
+		this.links = new LinkList();
 	}
 
 	/**
@@ -123,14 +123,7 @@ public class ResourceSupport implements Identifiable<Link> {
 	 * @return the link with the given rel or {@literal null} if none found.
 	 */
 	public Link getLink(String rel) {
-
-		for (Link link : links) {
-			if (link.getRel().equals(rel)) {
-				return link;
-			}
-		}
-
-		return null;
+		return LinkList.getLink(links, rel);
 	}
 
 	/* 
@@ -15,15 +15,20 @@
  */
 package org.springframework.hateoas;
 
+import static org.springframework.hateoas.core.UriSyntaxUtils.*;
+
 import java.io.Serializable;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
@@ -40,11 +45,23 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,]+)\\}");
 	private static final long serialVersionUID = -1007874653930162262L;
+	private static final int CACHE_LIMIT = 1024;
+	private static final Map<String, UriTemplate> CACHE = new LinkedHashMap<String, UriTemplate>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = 2486361785765237372L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<String, UriTemplate> eldest) {
+			return size() > CACHE_LIMIT;
+		}
+	};
+
+	private final TemplateVariables variables;
+	private final String baseUri;
 
-	private final TemplateVariables variables;;
-	private String baseUri;
+	private transient Expansion expansion;
+	private transient String string;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -55,16 +72,16 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
 		int baseUriEndIndex = template.length();
 		List<TemplateVariable> variables = new ArrayList<TemplateVariable>();
 
-		while (matcher.find()) {
+		for (int start = findVariable(template, 0); start != -1; start = findVariable(template, start + 1)) {
 
-			int start = matcher.start(0);
+			int end = template.indexOf('}', start);
+			boolean hasOperator = isOperator(template.charAt(start + 1));
 
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
+			VariableType type = VariableType.from(hasOperator ? template.substring(start + 1, start + 2) : "");
+			String[] names = template.substring(hasOperator ? start + 2 : start + 1, end).split(",");
 
 			for (String name : names) {
 				TemplateVariable variable = new TemplateVariable(name, type);
@@ -95,6 +112,37 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		this.variables = variables == null ? TemplateVariables.NONE : variables;
 	}
 
+	/**
+	 * Returns the {@link UriTemplate} for the given template string. Instances for strings containing template variables
+	 * are cached, so that repeated lookups of the same template neither have to parse the template again nor create new
+	 * instances. The cache holds the most recently used templates only, so that templates unlikely to reoccur don't grow
+	 * it indefinitely. Plain URIs are not cached as they're cheap to parse.
+	 * 
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 0.18
+	 */
+	public static UriTemplate of(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		if (template.indexOf('{') == -1) {
+			return new UriTemplate(template);
+		}
+
+		synchronized (CACHE) {
+
+			UriTemplate uriTemplate = CACHE.get(template);
+
+			if (uriTemplate == null) {
+				uriTemplate = new UriTemplate(template);
+				CACHE.put(template, uriTemplate);
+			}
+
+			return uriTemplate;
+		}
+	}
+
 	/**
 	 * Creates a new {@link UriTemplate} with the current {@link TemplateVariable}s augmented with the given ones.
 	 * 
@@ -152,7 +200,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return findVariable(candidate, 0) != -1;
 	}
 
 	/**
@@ -194,6 +242,12 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return URI.create(baseUri);
 		}
 
+		String expanded = getExpansion().expand(parameters);
+
+		if (expanded != null) {
+			return URI.create(expanded);
+		}
+
 		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
 		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
 		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
@@ -221,6 +275,12 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.notNull(parameters, "Parameters must not be null!");
 
+		String expanded = getExpansion().expand(parameters);
+
+		if (expanded != null) {
+			return URI.create(expanded);
+		}
+
 		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
 		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
 
@@ -247,10 +307,15 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	@Override
 	public String toString() {
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+		if (string == null) {
+
+			UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
+			boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+
+			this.string = baseUri + getOptionalVariables().toString(hasQueryParameters);
+		}
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
+		return string;
 	}
 
 	private TemplateVariables getOptionalVariables() {
@@ -266,6 +331,61 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 		return new TemplateVariables(result);
 	}
 
+	/**
+	 * Returns the {@link Expansion} for the current template, compiling it on first access.
+	 * 
+	 * @return
+	 */
+	private Expansion getExpansion() {
+
+		if (expansion == null) {
+			this.expansion = Expansion.compile(baseUri, getOptionalVariables());
+		}
+
+		return expansion;
+	}
+
+	/**
+	 * Returns the index of the opening brace of the first template variable found at or after the given index or -1 if
+	 * there is none. Variables consist of an optional operator and one or more comma separated variable names enclosed in
+	 * curly braces.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param fromIndex the index to start the search at.
+	 * @return
+	 */
+	private static int findVariable(String source, int fromIndex) {
+
+		for (int start = source.indexOf('{', fromIndex); start != -1; start = source.indexOf('{', start + 1)) {
+
+			int index = start + 1;
+
+			if (index < source.length() && isOperator(source.charAt(index))) {
+				index++;
+			}
+
+			int namesStart = index;
+
+			while (index < source.length() && isNameCharacter(source.charAt(index))) {
+				index++;
+			}
+
+			if (index > namesStart && index < source.length() && source.charAt(index) == '}') {
+				return start;
+			}
+		}
+
+		return -1;
+	}
+
+	private static boolean isOperator(char c) {
+		return c == '?' || c == '&' || c == '#' || c == '/';
+	}
+
+	private static boolean isNameCharacter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == ',';
+	}
+
 	/**
 	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
 	 * 
@@ -299,4 +419,252 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 				break;
 		}
 	}
+
+	/**
+	 * The base URI of a {@link UriTemplate} split up into literal parts and the names of the variables in between,
+	 * together with the optional variables to be appended. Expands the template by appending the parts to a
+	 * {@link StringBuilder} directly, as long as all of them consist of characters that neither encoding nor
+	 * normalization would change, so that the result equals the one of the {@link UriComponentsBuilder} based expansion.
+	 * In all other cases {@literal null} is returned to indicate the caller has to fall back to the latter.
+	 * 
+	 * @author agent
+	 */
+	private static final class Expansion {
+
+		private static final Expansion UNSUPPORTED = new Expansion(null, null, null, 0);
+
+		private final String[] literals;
+		private final String[] names;
+		private final TemplateVariable[] optionalVariables;
+		private final int pathStart;
+
+		private Expansion(String[] literals, String[] names, TemplateVariable[] optionalVariables, int pathStart) {
+
+			this.literals = literals;
+			this.names = names;
+			this.optionalVariables = optionalVariables;
+			this.pathStart = pathStart;
+		}
+
+		/**
+		 * Compiles the given base URI and optional {@link TemplateVariables} into an {@link Expansion}.
+		 * 
+		 * @param baseUri must not be {@literal null} or empty.
+		 * @param optionalVariables must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public static Expansion compile(String baseUri, TemplateVariables optionalVariables) {
+
+			int pathStart = getPathStart(baseUri);
+
+			if (pathStart == -1) {
+				return UNSUPPORTED;
+			}
+
+			List<String> literals = new ArrayList<String>();
+			List<String> names = new ArrayList<String>();
+			int literalStart = pathStart;
+
+			for (int start = findVariable(baseUri, 0); start != -1; start = findVariable(baseUri, literalStart)) {
+
+				int end = baseUri.indexOf('}', start);
+				String name = baseUri.substring(start + 1, end);
+
+				if (start < pathStart || isOperator(name.charAt(0)) || name.indexOf(',') != -1) {
+					return UNSUPPORTED;
+				}
+
+				literals.add(baseUri.substring(literalStart, start));
+				names.add(name);
+				literalStart = end + 1;
+			}
+
+			literals.add(baseUri.substring(literalStart));
+
+			for (String literal : literals) {
+				if (!isPathLiteral(literal)) {
+					return UNSUPPORTED;
+				}
+			}
+
+			Set<String> parameterNames = new HashSet<String>();
+
+			for (TemplateVariable variable : optionalVariables) {
+
+				if (!isUnreserved(variable.getName())) {
+					return UNSUPPORTED;
+				}
+
+				if (variable.isRequestParameterVariable() && !parameterNames.add(variable.getName())) {
+					return UNSUPPORTED;
+				}
+			}
+
+			literals.set(0, baseUri.substring(0, pathStart).concat(literals.get(0)));
+
+			List<TemplateVariable> optionals = optionalVariables.asList();
+
+			return new Expansion(literals.toArray(new String[literals.size()]), names.toArray(new String[names.size()]),
+					optionals.toArray(new TemplateVariable[optionals.size()]), pathStart);
+		}
+
+		/**
+		 * Expands the template with the given parameters, applied in the order of the variables.
+		 * 
+		 * @param parameters can be {@literal null}.
+		 * @return the expanded URI or {@literal null} if it cannot be expanded directly.
+		 */
+		public String expand(Object[] parameters) {
+
+			if (this == UNSUPPORTED || parameters == null || parameters.length < names.length) {
+				return null;
+			}
+
+			return render(parameters, parameters);
+		}
+
+		/**
+		 * Expands the template with the given parameters, looked up by variable name.
+		 * 
+		 * @param parameters must not be {@literal null}.
+		 * @return the expanded URI or {@literal null} if it cannot be expanded directly.
+		 */
+		public String expand(Map<String, ? extends Object> parameters) {
+
+			if (this == UNSUPPORTED) {
+				return null;
+			}
+
+			Object[] values = new Object[names.length];
+
+			for (int i = 0; i < names.length; i++) {
+
+				if (!parameters.containsKey(names[i])) {
+					return null;
+				}
+
+				values[i] = parameters.get(names[i]);
+			}
+
+			Object[] optionalValues = new Object[optionalVariables.length];
+
+			for (int i = 0; i < optionalVariables.length; i++) {
+				optionalValues[i] = parameters.get(optionalVariables[i].getName());
+			}
+
+			return render(values, optionalValues);
+		}
+
+		private String render(Object[] values, Object[] optionalValues) {
+
+			StringBuilder builder = new StringBuilder(literals[0].length() + 32);
+			builder.append(literals[0]);
+
+			for (int i = 0; i < names.length; i++) {
+
+				String value = toUnreservedString(values[i]);
+
+				if (value == null) {
+					return null;
+				}
+
+				builder.append(value).append(literals[i + 1]);
+			}
+
+			for (int i = 0; i < optionalVariables.length; i++) {
+
+				Object value = i < optionalValues.length ? optionalValues[i] : null;
+
+				if (value == null || !optionalVariables[i].getType().equals(VariableType.SEGMENT)) {
+					continue;
+				}
+
+				String segment = toUnreservedString(value);
+
+				if (segment == null) {
+					return null;
+				}
+
+				builder.append('/').append(segment);
+			}
+
+			if (!isNormalizedPath(builder, pathStart)) {
+				return null;
+			}
+
+			char separator = '?';
+			String fragment = null;
+
+			for (int i = 0; i < optionalVariables.length; i++) {
+
+				TemplateVariable variable = optionalVariables[i];
+				Object value = i < optionalValues.length ? optionalValues[i] : null;
+
+				if (value == null || variable.getType().equals(VariableType.SEGMENT)) {
+					continue;
+				}
+
+				String string = toUnreservedString(value);
+
+				if (string == null) {
+					return null;
+				}
+
+				if (variable.isFragment()) {
+					fragment = string;
+				} else {
+					builder.append(separator).append(variable.getName()).append('=').append(string);
+					separator = '&';
+				}
+			}
+
+			if (fragment != null) {
+				builder.append('#').append(fragment);
+			}
+
+			return builder.toString();
+		}
+
+		/**
+		 * Returns the index the path of the given base URI starts at, or -1 in case it has an authority that would not be
+		 * rendered unchanged.
+		 * 
+		 * @param baseUri must not be {@literal null}.
+		 * @return
+		 */
+		private static int getPathStart(String baseUri) {
+
+			int schemeEnd = baseUri.indexOf("://");
+
+			if (schemeEnd == -1) {
+				return 0;
+			}
+
+			int pathStart = baseUri.indexOf('/', schemeEnd + 3);
+			pathStart = pathStart == -1 ? baseUri.length() : pathStart;
+			String prefix = baseUri.substring(0, pathStart);
+
+			try {
+
+				URI uri = new URI(prefix);
+
+				if (uri.getHost() == null || uri.getRawUserInfo() != null || !isUnreserved(uri.getHost())) {
+					return -1;
+				}
+
+				String authority = uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+
+				return authority.equals(prefix) ? pathStart : -1;
+
+			} catch (URISyntaxException o_O) {
+				return -1;
+			}
+		}
+
+		private static String toUnreservedString(Object value) {
+
+			String string = value == null ? null : value.toString();
+			return isUnreserved(string) ? string : null;
+		}
+	}
 }
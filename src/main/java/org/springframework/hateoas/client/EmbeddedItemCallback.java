@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+/**
+ * Callback to process the items embedded in the final resource of a {@link Traverson} traversal one by one while the
+ * response is read.
+ *
+ * @author agent
+ * @see Traverson.TraversalBuilder#forEachEmbedded(Class, EmbeddedItemCallback)
+ * @since 0.18
+ */
+public interface EmbeddedItemCallback<T> {
+
+	/**
+	 * Processes the given embedded item.
+	 *
+	 * @param item the item read from the response, can be {@literal null}.
+	 */
+	void doWithItem(T item);
+}
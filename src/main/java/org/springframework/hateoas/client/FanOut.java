@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.hateoas.client.ListenableFutures.Function;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+/**
+ * Fetches the resources for a list of URIs with a bounded number of concurrent requests. A new request is only started
+ * once a previous one completed (or, when iterating the results, was consumed).
+ *
+ * @author agent
+ * @since 0.18
+ */
+class FanOut<T> {
+
+	private final List<String> uris;
+	private final int concurrency;
+	private final Function<String, ListenableFuture<T>> fetcher;
+
+	/**
+	 * Creates a new {@link FanOut} for the given URIs.
+	 *
+	 * @param uris must not be {@literal null}.
+	 * @param concurrency the maximum number of concurrent requests, must be greater than zero.
+	 * @param fetcher the {@link Function} to start the request for a URI, must not be {@literal null}.
+	 */
+	public FanOut(List<String> uris, int concurrency, Function<String, ListenableFuture<T>> fetcher) {
+
+		Assert.notNull(uris, "URIs must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		Assert.notNull(fetcher, "Fetcher must not be null!");
+
+		this.uris = uris;
+		this.concurrency = concurrency;
+		this.fetcher = fetcher;
+	}
+
+	/**
+	 * Fetches all resources and returns them in the order of the URIs. Fails with the first failed request, no new
+	 * requests are started in that case.
+	 *
+	 * @return
+	 */
+	public ListenableFuture<List<T>> toList() {
+
+		final SettableFuture<List<T>> result = new SettableFuture<List<T>>();
+
+		if (uris.isEmpty()) {
+			result.complete(Collections.<T> emptyList());
+			return result;
+		}
+
+		final Object[] values = new Object[uris.size()];
+		final AtomicInteger next = new AtomicInteger();
+		final AtomicInteger remaining = new AtomicInteger(uris.size());
+
+		Runnable starter = new Runnable() {
+
+			@Override
+			public void run() {
+
+				final int index = next.getAndIncrement();
+
+				if (index >= values.length || result.isDone()) {
+					return;
+				}
+
+				final Runnable starter = this;
+
+				fetch(index).addCallback(new ListenableFutureCallback<T>() {
+
+					@Override
+					@SuppressWarnings("unchecked")
+					public void onSuccess(T value) {
+
+						values[index] = value;
+
+						if (remaining.decrementAndGet() == 0) {
+							result.complete((List<T>) Arrays.asList(values));
+						} else {
+							starter.run();
+						}
+					}
+
+					@Override
+					public void onFailure(Throwable o_O) {
+						result.completeExceptionally(o_O);
+					}
+				});
+			}
+		};
+
+		for (int i = 0; i < Math.min(concurrency, values.length); i++) {
+			starter.run();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns an {@link Iterator} over the resources in the order their requests complete. Requests are started lazily
+	 * so that at most as many resources as concurrent requests are allowed are held in memory at any time. A failed
+	 * request surfaces as exception when iterating to it.
+	 *
+	 * @return
+	 */
+	public Iterator<T> toIterator() {
+		return new ResultIterator();
+	}
+
+	private ListenableFuture<T> fetch(int index) {
+
+		try {
+			return fetcher.apply(uris.get(index));
+		} catch (Exception o_O) {
+
+			SettableFuture<T> failed = new SettableFuture<T>();
+			failed.completeExceptionally(o_O);
+
+			return failed;
+		}
+	}
+
+	/**
+	 * {@link Iterator} handing out the resources once fetched and starting a new request for each resource consumed.
+	 *
+	 * @author agent
+	 */
+	private class ResultIterator implements Iterator<T> {
+
+		private final BlockingQueue<ListenableFuture<T>> completed = new LinkedBlockingQueue<ListenableFuture<T>>();
+		private int started = 0;
+		private int consumed = 0;
+
+		public ResultIterator() {
+
+			for (int i = 0; i < Math.min(concurrency, uris.size()); i++) {
+				startNext();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return consumed < uris.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			ListenableFuture<T> future;
+
+			try {
+				future = completed.take();
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for resource!", o_O);
+			}
+
+			consumed++;
+			startNext();
+
+			return ListenableFutures.await(future);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private void startNext() {
+
+			if (started >= uris.size()) {
+				return;
+			}
+
+			final ListenableFuture<T> future = fetch(started++);
+
+			future.addCallback(new ListenableFutureCallback<T>() {
+
+				@Override
+				public void onSuccess(T value) {
+					completed.add(future);
+				}
+
+				@Override
+				public void onFailure(Throwable o_O) {
+					completed.add(future);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache for the {@link Link}s discovered in the intermediate hops of {@link Traverson} traversals. Links are cached per
+ * URI, relation type and request headers following the caching headers of the response they were found in:
+ * <ul>
+ * <li>Links are considered fresh for the number of seconds given in the {@code max-age} directive of the
+ * {@code Cache-Control} header, reduced by the value of an {@code Age} header.</li>
+ * <li>Links found in responses carrying an {@code ETag} are kept beyond that and revalidated using an
+ * {@code If-None-Match} request.</li>
+ * <li>Responses with a {@code no-store} directive are not cached at all, ones with {@code no-cache} are always
+ * revalidated.</li>
+ * </ul>
+ * The cache holds a limited number of links and evicts the least recently used ones first. An instance can be shared
+ * between multiple {@link Traverson} instances. As links are only shared between requests carrying the same headers,
+ * links fetched using credentials don't leak to traversals using other ones. Note, that headers added by a custom
+ * {@link org.springframework.web.client.RestOperations} are not considered.
+ *
+ * @author agent
+ * @see Traverson#setHopCache(HopCache)
+ * @since 0.18
+ */
+public class HopCache {
+
+	static final int DEFAULT_CAPACITY = 256;
+
+	private static final String CACHE_CONTROL = "Cache-Control";
+	private static final String AGE = "Age";
+	private static final String MAX_AGE = "max-age=";
+
+	private final Map<Key, Entry> entries;
+
+	/**
+	 * Creates a new {@link HopCache} holding up to 256 links.
+	 */
+	public HopCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link HopCache} holding up to the given number of links.
+	 *
+	 * @param capacity must be greater than zero.
+	 */
+	public HopCache(final int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = -6290478924361766391L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, HopCache.Entry> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns the number of links currently cached.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all cached links.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Returns the {@link Entry} cached for the given {@link Key}, no matter whether it's still fresh.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link Entry} or {@literal null} if none cached.
+	 */
+	synchronized Entry get(Key key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Caches the given {@link Link} found in a response with the given {@link HttpHeaders}. Removes the currently cached
+	 * {@link Entry} if the headers don't allow caching the response.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param link must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 */
+	void put(Key key, Link link, HttpHeaders headers) {
+		store(key, link, headers, null);
+	}
+
+	/**
+	 * Updates the given {@link Entry} with the {@link HttpHeaders} of a response confirming it's still valid.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param entry must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 */
+	void refresh(Key key, Entry entry, HttpHeaders headers) {
+		store(key, entry.getLink(), headers, entry.getETag());
+	}
+
+	private void store(Key key, Link link, HttpHeaders headers, String previousETag) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(link, "Link must not be null!");
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		Entry entry = Entry.of(link, headers, previousETag);
+
+		synchronized (this) {
+
+			if (entry == null) {
+				entries.remove(key);
+			} else {
+				entries.put(key, entry);
+			}
+		}
+	}
+
+	/**
+	 * Key of a cached {@link Link}.
+	 *
+	 * @author agent
+	 */
+	static final class Key {
+
+		private final URI uri;
+		private final String rel;
+		private final HttpHeaders headers;
+
+		/**
+		 * Creates a new {@link Key} for the {@link Link} with the given rel in the resource with the given {@link URI}
+		 * requested with the given {@link HttpHeaders}, e.g. the accepted media types and credentials.
+		 *
+		 * @param uri must not be {@literal null}.
+		 * @param rel must not be {@literal null}.
+		 * @param headers must not be {@literal null}.
+		 */
+		public Key(URI uri, String rel, HttpHeaders headers) {
+
+			Assert.notNull(uri, "URI must not be null!");
+			Assert.notNull(rel, "Rel must not be null!");
+			Assert.notNull(headers, "HttpHeaders must not be null!");
+
+			this.uri = uri;
+			this.rel = rel;
+			this.headers = new HttpHeaders();
+			this.headers.putAll(headers);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+
+			return this.uri.equals(that.uri) && this.rel.equals(that.rel) && this.headers.equals(that.headers);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = 17;
+			result += 31 * uri.hashCode();
+			result += 31 * rel.hashCode();
+			result += 31 * headers.hashCode();
+			return result;
+		}
+	}
+
+	/**
+	 * A cached {@link Link} along with the information needed to decide whether it can still be used.
+	 *
+	 * @author agent
+	 */
+	static final class Entry {
+
+		private final Link link;
+		private final String eTag;
+		private final long expires;
+
+		private Entry(Link link, String eTag, long expires) {
+
+			this.link = link;
+			this.eTag = eTag;
+			this.expires = expires;
+		}
+
+		/**
+		 * Creates a new {@link Entry} for the given {@link Link} found in a response with the given {@link HttpHeaders}.
+		 *
+		 * @param link must not be {@literal null}.
+		 * @param headers must not be {@literal null}.
+		 * @param defaultETag the ETag to use in case the headers don't contain one, can be {@literal null}.
+		 * @return the {@link Entry} or {@literal null} if the headers don't allow caching.
+		 */
+		static Entry of(Link link, HttpHeaders headers, String defaultETag) {
+
+			long maxAge = -1;
+			List<String> cacheControls = headers.get(CACHE_CONTROL);
+
+			if (cacheControls != null) {
+
+				for (String cacheControl : cacheControls) {
+					for (String directive : StringUtils.tokenizeToStringArray(cacheControl, ",")) {
+
+						directive = directive.toLowerCase();
+
+						if (directive.equals("no-store")) {
+							return null;
+						}
+
+						if (directive.equals("no-cache")) {
+							maxAge = 0;
+						} else if (directive.startsWith(MAX_AGE) && maxAge != 0) {
+							maxAge = parseSeconds(directive.substring(MAX_AGE.length()));
+						}
+					}
+				}
+			}
+
+			if (maxAge > 0) {
+				maxAge = Math.max(maxAge - Math.max(parseSeconds(headers.getFirst(AGE)), 0), 0);
+			}
+
+			String eTag = StringUtils.hasText(headers.getETag()) ? headers.getETag() : defaultETag;
+
+			if (maxAge <= 0 && eTag == null) {
+				return null;
+			}
+
+			return new Entry(link, eTag, System.currentTimeMillis() + Math.max(maxAge, 0) * 1000);
+		}
+
+		/**
+		 * Returns the cached {@link Link}.
+		 *
+		 * @return
+		 */
+		public Link getLink() {
+			return link;
+		}
+
+		/**
+		 * Returns the ETag to revalidate the {@link Link} with.
+		 *
+		 * @return the ETag or {@literal null} if the response didn't carry one.
+		 */
+		public String getETag() {
+			return eTag;
+		}
+
+		/**
+		 * Returns whether the {@link Link} can be used without revalidating it.
+		 *
+		 * @return
+		 */
+		public boolean isFresh() {
+			return System.currentTimeMillis() < expires;
+		}
+
+		private static long parseSeconds(String value) {
+
+			if (!StringUtils.hasText(value)) {
+				return -1;
+			}
+
+			try {
+				return Long.parseLong(value.trim());
+			} catch (NumberFormatException o_O) {
+				return -1;
+			}
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+/**
+ * Helper methods to chain {@link ListenableFuture}s without blocking a thread while waiting for them to complete.
+ *
+ * @author agent
+ * @since 0.18
+ */
+abstract class ListenableFutures {
+
+	private ListenableFutures() {}
+
+	/**
+	 * Returns a {@link ListenableFuture} already completed with the given value.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	public static <T> ListenableFuture<T> completed(T value) {
+
+		SettableFuture<T> future = new SettableFuture<T>();
+		future.complete(value);
+
+		return future;
+	}
+
+	/**
+	 * Returns a {@link ListenableFuture} transforming the value of the given {@link ListenableFuture} using the given
+	 * {@link Function}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return
+	 */
+	public static <S, T> ListenableFuture<T> map(ListenableFuture<S> source, final Function<S, T> function) {
+
+		Assert.notNull(source, "Source future must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		return new ListenableFutureAdapter<T, S>(source) {
+
+			@Override
+			protected T adapt(S value) throws ExecutionException {
+
+				try {
+					return function.apply(value);
+				} catch (Exception o_O) {
+					throw new ExecutionException(o_O);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Returns a {@link ListenableFuture} completed with the result of the {@link ListenableFuture} the given
+	 * {@link Function} returns for the value of the given {@link ListenableFuture}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return
+	 */
+	public static <S, T> ListenableFuture<T> then(ListenableFuture<S> source,
+			final Function<S, ? extends ListenableFuture<T>> function) {
+
+		Assert.notNull(source, "Source future must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		final SettableFuture<T> result = new SettableFuture<T>();
+
+		source.addCallback(new ListenableFutureCallback<S>() {
+
+			@Override
+			public void onSuccess(S value) {
+
+				try {
+					forward(function.apply(value), result);
+				} catch (Throwable o_O) {
+					result.completeExceptionally(o_O);
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable o_O) {
+				result.completeExceptionally(o_O);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Returns a {@link ListenableFuture} failing with a {@link TimeoutException} in case the given
+	 * {@link ListenableFuture} doesn't complete within the given timeout. The given {@link ListenableFuture} will be
+	 * cancelled in that case.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param timeout the timeout, no timeout will be applied if not positive.
+	 * @param unit must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> ListenableFuture<T> withTimeout(final ListenableFuture<T> source, final long timeout,
+			final TimeUnit unit, ScheduledExecutorService scheduler) {
+
+		Assert.notNull(source, "Source future must not be null!");
+		Assert.notNull(unit, "Time unit must not be null!");
+		Assert.notNull(scheduler, "Scheduler must not be null!");
+
+		if (timeout <= 0) {
+			return source;
+		}
+
+		final SettableFuture<T> result = new SettableFuture<T>();
+		final AtomicBoolean timedOut = new AtomicBoolean();
+
+		final ScheduledFuture<?> timer = scheduler.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+
+				if (result.isDone() || !timedOut.compareAndSet(false, true)) {
+					return;
+				}
+
+				// Cancel first so that the source is cancelled once the timeout surfaces
+				source.cancel(true);
+				result.completeExceptionally(new TimeoutException(String.format("Request did not complete within %s %s!",
+						timeout, unit.toString().toLowerCase())));
+			}
+		}, timeout, unit);
+
+		source.addCallback(new ListenableFutureCallback<T>() {
+
+			@Override
+			public void onSuccess(T value) {
+
+				timer.cancel(false);
+
+				if (!timedOut.get()) {
+					result.complete(value);
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable o_O) {
+
+				timer.cancel(false);
+
+				if (!timedOut.get()) {
+					result.completeExceptionally(o_O);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Waits for the given {@link Future} to complete and returns its value. Rethrows {@link RuntimeException}s and
+	 * {@link Error}s the {@link Future} failed with as is.
+	 *
+	 * @param future must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> T await(Future<T> future) {
+
+		Assert.notNull(future, "Future must not be null!");
+
+		try {
+			return future.get();
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for response!", o_O);
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Completes the given {@link SettableFuture} with the outcome of the given {@link ListenableFuture}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	public static <T> void forward(ListenableFuture<T> source, final SettableFuture<T> target) {
+
+		source.addCallback(new ListenableFutureCallback<T>() {
+
+			@Override
+			public void onSuccess(T value) {
+				target.complete(value);
+			}
+
+			@Override
+			public void onFailure(Throwable o_O) {
+				target.completeExceptionally(o_O);
+			}
+		});
+	}
+
+	/**
+	 * A function to be applied to the value of a {@link ListenableFuture}.
+	 *
+	 * @author agent
+	 */
+	interface Function<S, T> {
+
+		/**
+		 * Applies the function to the given value.
+		 *
+		 * @param value can be {@literal null}.
+		 * @return
+		 * @throws Exception
+		 */
+		T apply(S value) throws Exception;
+	}
+}
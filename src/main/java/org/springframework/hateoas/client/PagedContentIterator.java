@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.client.ListenableFutures.Function;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * {@link Iterator} over the content of all pages of a paged collection resource. Requests the next page as soon as the
+ * previous one was received, so that it's fetched in the background while the previous one is consumed.
+ * <p>
+ * Pages are found by following their {@code next} links by default. If a concurrency greater than one is configured,
+ * the URI template of the collection resource contains a {@code page} variable and the first page exposes
+ * {@link PageMetadata}, the URIs of the remaining pages are derived from the template and up to the configured number
+ * of pages are fetched in parallel. The content is returned in page order in both cases.
+ *
+ * @author agent
+ * @since 0.18
+ */
+class PagedContentIterator<T> implements Iterator<T> {
+
+	static final String PAGE = "page";
+	static final String SIZE = "size";
+
+	private final UriTemplate template;
+	private final Map<String, Object> parameters;
+	private final int concurrency;
+	private final Function<String, ListenableFuture<PagedResources<T>>> fetcher;
+
+	private final Queue<ListenableFuture<PagedResources<T>>> pending = //
+	new LinkedList<ListenableFuture<PagedResources<T>>>();
+	private Iterator<T> current = Collections.<T> emptyList().iterator();
+	private List<String> pageUris;
+	private int nextPageUri = 0;
+	private boolean first = true;
+
+	/**
+	 * Creates a new {@link PagedContentIterator} for the collection resource identified by the given {@link UriTemplate}
+	 * and starts fetching the first page.
+	 *
+	 * @param template the {@link UriTemplate} of the collection resource, must not be {@literal null}.
+	 * @param parameters the parameters to expand the {@link UriTemplate} and {@code next} links with, must not be
+	 *          {@literal null}.
+	 * @param concurrency the maximum number of pages to fetch in parallel, must be greater than zero.
+	 * @param fetcher the {@link Function} to start the request for a page, must not be {@literal null}.
+	 */
+	public PagedContentIterator(UriTemplate template, Map<String, ?> parameters, int concurrency,
+			Function<String, ListenableFuture<PagedResources<T>>> fetcher) {
+
+		Assert.notNull(template, "UriTemplate must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		Assert.notNull(fetcher, "Fetcher must not be null!");
+
+		this.template = template;
+		this.parameters = new HashMap<String, Object>(parameters);
+		this.concurrency = concurrency;
+		this.fetcher = fetcher;
+
+		this.pending.add(fetch(template.expand(this.parameters).toString()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!current.hasNext()) {
+
+			ListenableFuture<PagedResources<T>> future = pending.poll();
+
+			if (future == null) {
+				return false;
+			}
+
+			PagedResources<T> page = ListenableFutures.await(future);
+
+			if (first) {
+				this.pageUris = concurrency > 1 ? getRemainingPageUris(page.getMetadata()) : null;
+				this.first = false;
+			}
+
+			fetchNextPages(page);
+
+			this.current = page.getContent().iterator();
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return current.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Starts the requests for the pages following the given one.
+	 */
+	private void fetchNextPages(PagedResources<T> page) {
+
+		if (pageUris != null) {
+
+			while (pending.size() < concurrency && nextPageUri < pageUris.size()) {
+				pending.add(fetch(pageUris.get(nextPageUri++)));
+			}
+
+			return;
+		}
+
+		Link next = page.getNextLink();
+
+		if (next != null) {
+			pending.add(fetch(new UriTemplate(next.getHref()).expand(parameters).toString()));
+		}
+	}
+
+	/**
+	 * Returns the URIs of the pages following the one described by the given {@link PageMetadata}.
+	 *
+	 * @param metadata can be {@literal null}.
+	 * @return the URIs or {@literal null} in case they cannot be derived from the template.
+	 */
+	private List<String> getRemainingPageUris(PageMetadata metadata) {
+
+		List<String> variables = template.getVariableNames();
+
+		if (metadata == null || !variables.contains(PAGE)) {
+			return null;
+		}
+
+		Map<String, Object> pageParameters = new HashMap<String, Object>(parameters);
+
+		if (variables.contains(SIZE) && !pageParameters.containsKey(SIZE)) {
+			pageParameters.put(SIZE, metadata.getSize());
+		}
+
+		List<String> uris = new ArrayList<String>();
+
+		for (long number = metadata.getNumber() + 1; number < metadata.getTotalPages(); number++) {
+
+			pageParameters.put(PAGE, number);
+			uris.add(template.expand(pageParameters).toString());
+		}
+
+		return uris;
+	}
+
+	private ListenableFuture<PagedResources<T>> fetch(String uri) {
+
+		try {
+			return fetcher.apply(uri);
+		} catch (Exception o_O) {
+
+			SettableFuture<PagedResources<T>> failed = new SettableFuture<PagedResources<T>>();
+			failed.completeExceptionally(o_O);
+
+			return failed;
+		}
+	}
+}
@@ -15,11 +15,20 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 import com.jayway.jsonpath.JsonPath;
 
@@ -60,6 +69,27 @@ class Rels {
 		 * @return
 		 */
 		Link findInResponse(String representation, MediaType mediaType);
+
+		/**
+		 * Returns the link contained in the representation of the given {@link MediaType} read from the given
+		 * {@link InputStream}. Implementations are free to stop reading the {@link InputStream} once the link was found
+		 * and will not close it.
+		 * 
+		 * @param representation must not be {@literal null}.
+		 * @param mediaType
+		 * @return
+		 * @throws IOException in case the representation cannot be read.
+		 */
+		Link findInResponse(InputStream representation, MediaType mediaType) throws IOException;
+
+		/**
+		 * Returns all links contained in the given representation of the given {@link MediaType}.
+		 * 
+		 * @param representation
+		 * @param mediaType
+		 * @return will never be {@literal null}.
+		 */
+		List<Link> findAllInResponse(String representation, MediaType mediaType);
 	}
 
 	/**
@@ -93,6 +123,28 @@ class Rels {
 		 */
 		@Override
 		public Link findInResponse(String response, MediaType mediaType) {
+			return getDiscovererFor(mediaType).findLinkWithRel(rel, response);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Link findInResponse(InputStream response, MediaType mediaType) {
+			return getDiscovererFor(mediaType).findLinkWithRel(rel, response);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.lang.String, org.springframework.http.MediaType)
+		 */
+		@Override
+		public List<Link> findAllInResponse(String response, MediaType mediaType) {
+			return getDiscovererFor(mediaType).findLinksWithRel(rel, response);
+		}
+
+		private LinkDiscoverer getDiscovererFor(MediaType mediaType) {
 
 			LinkDiscoverer discoverer = discoverers.getLinkDiscovererFor(mediaType);
 
@@ -101,7 +153,7 @@ class Rels {
 						mediaType));
 			}
 
-			return discoverer.findLinkWithRel(rel, response);
+			return discoverer;
 		}
 	}
 
@@ -112,6 +164,8 @@ class Rels {
 	 */
 	private static class JsonPathRel implements Rel {
 
+		private static final Charset DEFAULT_CHARSET = Charset.forName("UTF-8");
+
 		private final String jsonPath;
 		private final String rel;
 
@@ -138,5 +192,38 @@ class Rels {
 		public Link findInResponse(String representation, MediaType mediaType) {
 			return new Link(JsonPath.<Object> read(representation, jsonPath).toString(), rel);
 		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Link findInResponse(InputStream representation, MediaType mediaType) throws IOException {
+
+			Charset charset = mediaType == null || mediaType.getCharSet() == null ? DEFAULT_CHARSET : mediaType.getCharSet();
+			return findInResponse(StreamUtils.copyToString(representation, charset), mediaType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.lang.String, org.springframework.http.MediaType)
+		 */
+		@Override
+		public List<Link> findAllInResponse(String representation, MediaType mediaType) {
+
+			Object result = JsonPath.<Object> read(representation, jsonPath);
+
+			if (!(result instanceof Collection)) {
+				return Collections.singletonList(new Link(result.toString(), rel));
+			}
+
+			List<Link> links = new ArrayList<Link>(((Collection<?>) result).size());
+
+			for (Object element : (Collection<?>) result) {
+				links.add(new Link(element.toString(), rel));
+			}
+
+			return links;
+		}
 	}
 }
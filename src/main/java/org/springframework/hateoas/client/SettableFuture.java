@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureTask;
+
+/**
+ * {@link ListenableFuture} to be completed explicitly by setting a value or an exception. Only the first attempt to
+ * complete the future has an effect.
+ *
+ * @author agent
+ * @since 0.18
+ */
+class SettableFuture<T> extends ListenableFutureTask<T> {
+
+	private static final Runnable NO_OP = new Runnable() {
+
+		@Override
+		public void run() {}
+	};
+
+	private final AtomicBoolean completed = new AtomicBoolean();
+
+	/**
+	 * Creates a new, incomplete {@link SettableFuture}.
+	 */
+	public SettableFuture() {
+		super(NO_OP, null);
+	}
+
+	/**
+	 * Completes the future with the given value.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return whether the future was completed by the call.
+	 */
+	public boolean complete(T value) {
+
+		if (!completed.compareAndSet(false, true)) {
+			return false;
+		}
+
+		set(value);
+		return true;
+	}
+
+	/**
+	 * Completes the future with the given exception.
+	 *
+	 * @param exception must not be {@literal null}.
+	 * @return whether the future was completed by the call.
+	 */
+	public boolean completeExceptionally(Throwable exception) {
+
+		if (!completed.compareAndSet(false, true)) {
+			return false;
+		}
+
+		setException(exception);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.concurrent.FutureTask#cancel(boolean)
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		return completed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.concurrent.FutureTask#run()
+	 */
+	@Override
+	public void run() {
+		throw new UnsupportedOperationException("SettableFuture can only be completed explicitly!");
+	}
+}
@@ -17,37 +17,64 @@ package org.springframework.hateoas.client;
 
 import static org.springframework.http.HttpMethod.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.client.ListenableFutures.Function;
 import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.hateoas.hal.HalEmbeddedIterator;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.Jackson2HalModule;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.client.AsyncRestOperations;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 
@@ -69,11 +96,17 @@ public class Traverson {
 		DEFAULT_LINK_DISCOVERERS = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
 	}
 
+	static final int DEFAULT_CONCURRENCY = 4;
+
 	private final URI baseUri;
 	private final List<MediaType> mediaTypes;
 
+	private ClientHttpRequestFactory requestFactory;
 	private RestOperations operations;
+	private volatile AsyncRestOperations asyncOperations;
 	private LinkDiscoverers discoverers;
+	private boolean streamingHops = false;
+	private HopCache hopCache;
 
 	/**
 	 * Creates a new {@link Traverson} interacting with the given base URI and using the given {@link MediaType}s to
@@ -102,7 +135,7 @@ public class Traverson {
 		this.baseUri = baseUri;
 		this.discoverers = DEFAULT_LINK_DISCOVERERS;
 
-		setRestOperations(createDefaultTemplate(this.mediaTypes));
+		setRestOperations(null);
 	}
 
 	/**
@@ -135,14 +168,39 @@ public class Traverson {
 		return converters;
 	}
 
-	private static final RestOperations createDefaultTemplate(List<MediaType> mediaTypes) {
+	private static final RestOperations createDefaultTemplate(List<MediaType> mediaTypes,
+			ClientHttpRequestFactory requestFactory) {
+
+		RestTemplate template = requestFactory == null ? new RestTemplate() : new RestTemplate(requestFactory);
+		template.setMessageConverters(getDefaultMessageConverters(mediaTypes));
+
+		return template;
+	}
+
+	private static final AsyncRestOperations createDefaultAsyncTemplate(List<MediaType> mediaTypes,
+			ClientHttpRequestFactory requestFactory) {
 
-		RestTemplate template = new RestTemplate();
+		AsyncRestTemplate template = supportsAsyncRequests(requestFactory) ? new AsyncRestTemplate(
+				(AsyncClientHttpRequestFactory) requestFactory) : new AsyncRestTemplate(AsyncExecutor.INSTANCE);
 		template.setMessageConverters(getDefaultMessageConverters(mediaTypes));
 
 		return template;
 	}
 
+	/**
+	 * Returns whether the given {@link ClientHttpRequestFactory} can be used to issue asynchronous requests. A
+	 * {@link SimpleClientHttpRequestFactory} implements {@link AsyncClientHttpRequestFactory} but rejects asynchronous
+	 * requests unless a task executor is configured on it, which cannot be detected. It's thus never considered to
+	 * support them.
+	 * 
+	 * @param requestFactory can be {@literal null}.
+	 * @return
+	 */
+	private static boolean supportsAsyncRequests(ClientHttpRequestFactory requestFactory) {
+		return requestFactory instanceof AsyncClientHttpRequestFactory
+				&& !(requestFactory instanceof SimpleClientHttpRequestFactory);
+	}
+
 	/**
 	 * Creates a new {@link HttpMessageConverter} to support HAL.
 	 * 
@@ -150,16 +208,42 @@ public class Traverson {
 	 */
 	private static final HttpMessageConverter<?> getHalConverter() {
 
+		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+
+		converter.setObjectMapper(createHalObjectMapper());
+		converter.setSupportedMediaTypes(Arrays.asList(MediaTypes.HAL_JSON));
+
+		return converter;
+	}
+
+	private static ObjectMapper createHalObjectMapper() {
+
 		ObjectMapper mapper = new ObjectMapper();
 		mapper.registerModule(new Jackson2HalModule());
 		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+		return mapper;
+	}
 
-		converter.setObjectMapper(mapper);
-		converter.setSupportedMediaTypes(Arrays.asList(MediaTypes.HAL_JSON));
+	/**
+	 * Returns the {@link ObjectMapper} used to read HAL representations. Uses the one configured for the HAL converter of
+	 * the {@link RestTemplate} in use, a default one otherwise.
+	 * 
+	 * @return
+	 */
+	private ObjectMapper getObjectMapper() {
 
-		return converter;
+		if (operations instanceof RestTemplate) {
+
+			for (HttpMessageConverter<?> converter : ((RestTemplate) operations).getMessageConverters()) {
+				if (converter instanceof MappingJackson2HttpMessageConverter
+						&& converter.getSupportedMediaTypes().contains(MediaTypes.HAL_JSON)) {
+					return ((MappingJackson2HttpMessageConverter) converter).getObjectMapper();
+				}
+			}
+		}
+
+		return createHalObjectMapper();
 	}
 
 	/**
@@ -171,10 +255,57 @@ public class Traverson {
 	 */
 	public Traverson setRestOperations(RestOperations operations) {
 
-		this.operations = operations == null ? createDefaultTemplate(mediaTypes) : operations;
+		this.operations = operations == null ? createDefaultTemplate(mediaTypes, requestFactory) : operations;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link ClientHttpRequestFactory} to be used by the default {@link RestTemplate} and - in case it
+	 * implements {@link AsyncClientHttpRequestFactory} - the default {@link AsyncRestTemplate}. Share a pooling
+	 * {@link ClientHttpRequestFactory} (e.g. an {@code HttpComponentsClientHttpRequestFactory}) between {@link Traverson}
+	 * instances to reuse connections across them. A {@link SimpleClientHttpRequestFactory} is never used for asynchronous
+	 * traversals, hand an {@link AsyncRestTemplate} using it to {@link #setAsyncRestOperations(AsyncRestOperations)}
+	 * instead. Replaces the {@link RestOperations} and {@link AsyncRestOperations} configured before with the defaults.
+	 * 
+	 * @param requestFactory can be {@literal null} to use the defaults of {@link RestTemplate} and
+	 *          {@link AsyncRestTemplate}.
+	 * @return
+	 * @since 0.18
+	 */
+	public Traverson setRequestFactory(ClientHttpRequestFactory requestFactory) {
+
+		this.requestFactory = requestFactory;
+		this.asyncOperations = null;
+
+		return setRestOperations(null);
+	}
+
+	/**
+	 * Configures the {@link AsyncRestOperations} to use for asynchronous traversals. If {@literal null} is provided a
+	 * default {@link AsyncRestTemplate} will be used. Unless a {@link ClientHttpRequestFactory} supporting asynchronous
+	 * requests is configured, it executes requests using a shared pool of 16 daemon threads.
+	 * 
+	 * @param operations can be {@literal null}.
+	 * @return
+	 * @since 0.18
+	 */
+	public Traverson setAsyncRestOperations(AsyncRestOperations operations) {
+
+		this.asyncOperations = operations;
 		return this;
 	}
 
+	private AsyncRestOperations getAsyncRestOperations() {
+
+		AsyncRestOperations operations = this.asyncOperations;
+
+		if (operations == null) {
+			this.asyncOperations = operations = createDefaultAsyncTemplate(mediaTypes, requestFactory);
+		}
+
+		return operations;
+	}
+
 	/**
 	 * Sets the {@link LinkDiscoverers} to use. By default a single {@link HalLinkDiscoverer} is registered. If
 	 * {@literal null} is provided the default is reapplied.
@@ -190,6 +321,37 @@ public class Traverson {
 		return this;
 	}
 
+	/**
+	 * Configures whether to stream the responses of the intermediate hops of a traversal. If enabled, the response body
+	 * is handed to the {@link LinkDiscoverer} as {@link InputStream} and the rest of it is discarded once the link was
+	 * found instead of buffering the entire response as {@link String} first. Note, that error messages for links not
+	 * found don't contain the response in that case. Defaults to {@literal false}.
+	 * 
+	 * @param streamingHops
+	 * @return
+	 * @since 0.18
+	 */
+	public Traverson setStreamingHops(boolean streamingHops) {
+
+		this.streamingHops = streamingHops;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link HopCache} to keep the links discovered in the intermediate hops of traversals in so that
+	 * repeated traversals only request the final resource as long as the cached links are fresh or can be revalidated.
+	 * Caching is disabled if {@literal null} is provided, which is the default.
+	 * 
+	 * @param hopCache can be {@literal null}.
+	 * @return
+	 * @since 0.18
+	 */
+	public Traverson setHopCache(HopCache hopCache) {
+
+		this.hopCache = hopCache;
+		return this;
+	}
+
 	/**
 	 * Sets up a {@link TraversalBuilder} to follow the given rels.
 	 * 
@@ -201,6 +363,65 @@ public class Traverson {
 		return new TraversalBuilder().follow(rels);
 	}
 
+	/**
+	 * Executes the given traversals concurrently and returns the {@link Link}s found for the last rel of each of them.
+	 * Resources requested by multiple traversals with the same headers, e.g. the root resource, are only requested once.
+	 * 
+	 * @param traversals must not be {@literal null}.
+	 * @return the {@link Link}s in the order of the given traversals.
+	 * @see TraversalBuilder#asLinkAsync()
+	 * @since 0.18
+	 */
+	public List<Link> asLinks(Collection<TraversalBuilder> traversals) {
+
+		Assert.notNull(traversals, "Traversals must not be null!");
+
+		SharedResponses responses = new SharedResponses();
+		List<ListenableFuture<Link>> futures = new ArrayList<ListenableFuture<Link>>(traversals.size());
+
+		for (TraversalBuilder traversal : traversals) {
+			futures.add(traversal.asLinkAsync(responses));
+		}
+
+		return awaitAll(futures);
+	}
+
+	/**
+	 * Executes the given traversals concurrently and marshals the final responses into objects of the given type.
+	 * Resources requested by multiple traversals with the same headers, e.g. the root resource, are only requested once.
+	 * 
+	 * @param traversals must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the objects in the order of the given traversals.
+	 * @see TraversalBuilder#toObjectAsync(Class)
+	 * @since 0.18
+	 */
+	public <T> List<T> toObjects(Collection<TraversalBuilder> traversals, Class<T> type) {
+
+		Assert.notNull(traversals, "Traversals must not be null!");
+		Assert.notNull(type, "Target type must not be null!");
+
+		SharedResponses responses = new SharedResponses();
+		List<ListenableFuture<T>> futures = new ArrayList<ListenableFuture<T>>(traversals.size());
+
+		for (TraversalBuilder traversal : traversals) {
+			futures.add(traversal.toBody(traversal.toEntityAsync(type, responses)));
+		}
+
+		return awaitAll(futures);
+	}
+
+	private static <T> List<T> awaitAll(List<ListenableFuture<T>> futures) {
+
+		List<T> result = new ArrayList<T>(futures.size());
+
+		for (ListenableFuture<T> future : futures) {
+			result.add(ListenableFutures.await(future));
+		}
+
+		return result;
+	}
+
 	private HttpEntity<?> prepareRequest(HttpHeaders headers) {
 
 		HttpHeaders toSend = new HttpHeaders();
@@ -223,6 +444,9 @@ public class Traverson {
 		private List<String> rels = new ArrayList<String>();
 		private Map<String, Object> templateParameters = new HashMap<String, Object>();
 		private HttpHeaders headers = new HttpHeaders();
+		private long hopTimeout = 0;
+		private int concurrency = DEFAULT_CONCURRENCY;
+		private boolean parallelPages = false;
 
 		private TraversalBuilder() {}
 
@@ -266,6 +490,62 @@ public class Traverson {
 			return this;
 		}
 
+		/**
+		 * Configures the time each request of an asynchronous traversal may take. The traversal fails with a
+		 * {@link TimeoutException} if a request doesn't complete in time. Requests don't time out by default.
+		 * <p>
+		 * Note, that the request timed out is not aborted, as a blocking read cannot be interrupted and keeps its thread
+		 * busy. Configure a read timeout on the {@link ClientHttpRequestFactory} in use (see
+		 * {@link Traverson#setRequestFactory(ClientHttpRequestFactory)}) to make sure those threads are eventually freed.
+		 * 
+		 * @param timeout the timeout, no timeout will be applied if not positive.
+		 * @param unit must not be {@literal null}.
+		 * @return
+		 * @since 0.18
+		 */
+		public TraversalBuilder withHopTimeout(long timeout, TimeUnit unit) {
+
+			Assert.notNull(unit, "Time unit must not be null!");
+
+			this.hopTimeout = unit.toMillis(timeout);
+			return this;
+		}
+
+		/**
+		 * Configures the maximum number of concurrent requests issued to fetch the resources linked from the final
+		 * resource of the traversal. Defaults to 4.
+		 * 
+		 * @param concurrency must be greater than zero.
+		 * @return
+		 * @see #toObjects(String, Class)
+		 * @see #streamObjects(String, Class)
+		 * @see #withParallelPages()
+		 * @since 0.18
+		 */
+		public TraversalBuilder withConcurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * Configures the pages of a paged collection resource to be fetched in parallel instead of following their
+		 * {@code next} links one by one. Only applies if the link to the collection resource is templated with a
+		 * {@code page} variable and the pages expose page metadata. Fetches up to as many pages in parallel as configured
+		 * via {@link #withConcurrency(int)}.
+		 * 
+		 * @return
+		 * @see #streamPagedContent(ParameterizedTypeReference)
+		 * @since 0.18
+		 */
+		public TraversalBuilder withParallelPages() {
+
+			this.parallelPages = true;
+			return this;
+		}
+
 		/**
 		 * Executes the traversal and marshals the final response into an object of the given type.
 		 * 
@@ -341,6 +621,318 @@ public class Traverson {
 			return traverseToLink(false);
 		}
 
+		/**
+		 * Executes the traversal and hands the items embedded in the final resource to the given
+		 * {@link EmbeddedItemCallback} one by one while the response is read, so that only a single item has to be held in
+		 * memory. Returns the final resource without its content, i.e. its links and, for paged collection resources, its
+		 * page metadata.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param callback must not be {@literal null}.
+		 * @return the final resource without content, will never be {@literal null}.
+		 * @see HalEmbeddedIterator
+		 * @since 0.18
+		 */
+		public <T> PagedResources<T> forEachEmbedded(Class<T> type, EmbeddedItemCallback<? super T> callback) {
+
+			Assert.notNull(type, "Target type must not be null!");
+			return forEachEmbedded(getObjectMapper().getTypeFactory().constructType(type), callback);
+		}
+
+		/**
+		 * Executes the traversal and hands the items embedded in the final resource marshalled into objects of the given
+		 * {@link ParameterizedTypeReference} to the given {@link EmbeddedItemCallback} one by one while the response is
+		 * read.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @param callback must not be {@literal null}.
+		 * @return the final resource without content, will never be {@literal null}.
+		 * @see #forEachEmbedded(Class, EmbeddedItemCallback)
+		 * @since 0.18
+		 */
+		public <T> PagedResources<T> forEachEmbedded(ParameterizedTypeReference<T> type,
+				EmbeddedItemCallback<? super T> callback) {
+
+			Assert.notNull(type, "Target type must not be null!");
+			return forEachEmbedded(getObjectMapper().getTypeFactory().constructType(type.getType()), callback);
+		}
+
+		private <T> PagedResources<T> forEachEmbedded(JavaType type, EmbeddedItemCallback<? super T> callback) {
+
+			Assert.notNull(callback, "EmbeddedItemCallback must not be null!");
+
+			return operations.execute(traverseToFinalUrl(true), GET,
+					new HeadersRequestCallback(prepareRequest(headers).getHeaders()),
+					new EmbeddedItemsResponseExtractor<T>(getObjectMapper(), type, callback));
+		}
+
+		/**
+		 * Executes the traversal asynchronously and marshals the final response into an object of the given type. Uses the
+		 * configured {@link AsyncRestOperations} and doesn't block a thread between the requests of the traversal.
+		 * Streaming the intermediate hops is not supported for asynchronous traversals.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #withHopTimeout(long, TimeUnit)
+		 * @since 0.18
+		 */
+		public <T> ListenableFuture<T> toObjectAsync(Class<T> type) {
+			return toBody(toEntityAsync(type));
+		}
+
+		/**
+		 * Executes the traversal asynchronously and marshals the final response into an object of the given
+		 * {@link ParameterizedTypeReference}.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #toObjectAsync(Class)
+		 * @since 0.18
+		 */
+		public <T> ListenableFuture<T> toObjectAsync(final ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return toBody(ListenableFutures.then(traverseToFinalUrlAsync(true, null),
+					new Function<String, ListenableFuture<ResponseEntity<T>>>() {
+
+						@Override
+						public ListenableFuture<ResponseEntity<T>> apply(String uri) {
+							return exchangeAsync(uri, type);
+						}
+					}));
+		}
+
+		/**
+		 * Executes the traversal asynchronously and returns the result of the given JSON Path expression evaluated
+		 * against the final representation.
+		 * 
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return
+		 * @see #toObjectAsync(Class)
+		 * @since 0.18
+		 */
+		public <T> ListenableFuture<T> toObjectAsync(final String jsonPath) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+			return ListenableFutures.map(toObjectAsync(String.class), new Function<String, T>() {
+
+				@Override
+				public T apply(String representation) {
+					return JsonPath.read(representation, jsonPath);
+				}
+			});
+		}
+
+		/**
+		 * Executes the traversal asynchronously and returns the raw {@link ResponseEntity} with the representation
+		 * unmarshalled into an instance of the given type.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #toObjectAsync(Class)
+		 * @since 0.18
+		 */
+		public <T> ListenableFuture<ResponseEntity<T>> toEntityAsync(Class<T> type) {
+			return toEntityAsync(type, null);
+		}
+
+		private <T> ListenableFuture<ResponseEntity<T>> toEntityAsync(final Class<T> type, SharedResponses responses) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return ListenableFutures.then(traverseToFinalUrlAsync(true, responses),
+					new Function<String, ListenableFuture<ResponseEntity<T>>>() {
+
+						@Override
+						public ListenableFuture<ResponseEntity<T>> apply(String uri) {
+							return exchangeAsync(uri, type);
+						}
+					});
+		}
+
+		/**
+		 * Asynchronously looks up the {@link Link} found for the last rel in the rels configured to follow.
+		 * 
+		 * @return
+		 * @see #asLink()
+		 * @since 0.18
+		 */
+		public ListenableFuture<Link> asLinkAsync() {
+			return asLinkAsync(null);
+		}
+
+		private ListenableFuture<Link> asLinkAsync(SharedResponses responses) {
+
+			Assert.isTrue(rels.size() > 0, "At least one rel needs to be provided!");
+
+			return ListenableFutures.map(traverseToFinalUrlAsync(true, responses), new Function<String, Link>() {
+
+				@Override
+				public Link apply(String uri) {
+					return new Link(uri, rels.get(rels.size() - 1));
+				}
+			});
+		}
+
+		/**
+		 * Executes the traversal, looks up all links with the given rel in the final resource and fetches the linked
+		 * resources concurrently, marshalling them into objects of the given type. Uses the configured
+		 * {@link AsyncRestOperations} and issues at most the configured number of requests at a time.
+		 * 
+		 * @param rel must not be {@literal null} or empty.
+		 * @param type must not be {@literal null}.
+		 * @return the objects in the order of the links in the final resource.
+		 * @see #withConcurrency(int)
+		 * @see #withHopTimeout(long, TimeUnit)
+		 * @since 0.18
+		 */
+		public <T> List<T> toObjects(String rel, Class<T> type) {
+			return ListenableFutures.await(fanOut(rel, type).toList());
+		}
+
+		/**
+		 * Executes the traversal, looks up all links with the given rel in the final resource and fetches the linked
+		 * resources concurrently, marshalling them into objects of the given {@link ParameterizedTypeReference}.
+		 * 
+		 * @param rel must not be {@literal null} or empty.
+		 * @param type must not be {@literal null}.
+		 * @return the objects in the order of the links in the final resource.
+		 * @see #toObjects(String, Class)
+		 * @since 0.18
+		 */
+		public <T> List<T> toObjects(String rel, ParameterizedTypeReference<T> type) {
+			return ListenableFutures.await(fanOut(rel, type).toList());
+		}
+
+		/**
+		 * Executes the traversal, looks up all links with the given rel in the final resource and returns an
+		 * {@link Iterator} over the linked resources marshalled into objects of the given type. The objects are handed out
+		 * in the order their requests complete, new requests are only issued as objects are consumed so that only a few of
+		 * them are held in memory at any time.
+		 * 
+		 * @param rel must not be {@literal null} or empty.
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #withConcurrency(int)
+		 * @see #withHopTimeout(long, TimeUnit)
+		 * @since 0.18
+		 */
+		public <T> Iterator<T> streamObjects(String rel, Class<T> type) {
+			return fanOut(rel, type).toIterator();
+		}
+
+		/**
+		 * Executes the traversal, looks up all links with the given rel in the final resource and returns an
+		 * {@link Iterator} over the linked resources marshalled into objects of the given
+		 * {@link ParameterizedTypeReference}.
+		 * 
+		 * @param rel must not be {@literal null} or empty.
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #streamObjects(String, Class)
+		 * @since 0.18
+		 */
+		public <T> Iterator<T> streamObjects(String rel, ParameterizedTypeReference<T> type) {
+			return fanOut(rel, type).toIterator();
+		}
+
+		/**
+		 * Executes the traversal and returns an {@link Iterator} over the content of all pages of the final resource,
+		 * which is expected to be a paged collection resource. Pages are found by following their {@code next} links, the
+		 * next page is requested in the background while the current one is consumed. Pages can be fetched in parallel if
+		 * the server supports a {@code page} template variable.
+		 * 
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @see #withParallelPages()
+		 * @see #withHopTimeout(long, TimeUnit)
+		 * @since 0.18
+		 */
+		public <T> Iterator<T> streamPagedContent(final ParameterizedTypeReference<PagedResources<T>> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			Map<String, Object> parameters = templateParameters == null ? Collections.<String, Object> emptyMap()
+					: templateParameters;
+
+			return new PagedContentIterator<T>(new UriTemplate(traverseToFinalUrl(false)), parameters,
+					parallelPages ? concurrency : 1, new Function<String, ListenableFuture<PagedResources<T>>>() {
+
+						@Override
+						public ListenableFuture<PagedResources<T>> apply(String uri) {
+							return toBody(exchangeAsync(uri, type));
+						}
+					});
+		}
+
+		private <T> FanOut<T> fanOut(String rel, final Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return new FanOut<T>(traverseToAllLinks(rel), concurrency, new Function<String, ListenableFuture<T>>() {
+
+				@Override
+				public ListenableFuture<T> apply(String uri) {
+					return toBody(exchangeAsync(uri, type));
+				}
+			});
+		}
+
+		private <T> FanOut<T> fanOut(String rel, final ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return new FanOut<T>(traverseToAllLinks(rel), concurrency, new Function<String, ListenableFuture<T>>() {
+
+				@Override
+				public ListenableFuture<T> apply(String uri) {
+					return toBody(exchangeAsync(uri, type));
+				}
+			});
+		}
+
+		/**
+		 * Executes the traversal and returns the expanded URIs of all links with the given rel in the final resource.
+		 */
+		private List<String> traverseToAllLinks(String rel) {
+
+			Assert.hasText(rel, "Rel must not be null or empty!");
+
+			ResponseEntity<String> response = operations.exchange(traverseToFinalUrl(true), GET, prepareRequest(headers),
+					String.class);
+			List<Link> links = Rels.getRelFor(rel, discoverers).findAllInResponse(response.getBody(),
+					response.getHeaders().getContentType());
+
+			List<String> uris = new ArrayList<String>(links.size());
+
+			for (Link link : links) {
+				uris.add(toFinalUrl(link.getHref(), true));
+			}
+
+			return uris;
+		}
+
+		private <T> ListenableFuture<ResponseEntity<T>> exchangeAsync(String uri, Class<T> type) {
+			return withHopTimeout(getAsyncRestOperations().exchange(uri, GET, prepareRequest(headers), type));
+		}
+
+		private <T> ListenableFuture<ResponseEntity<T>> exchangeAsync(String uri, ParameterizedTypeReference<T> type) {
+			return withHopTimeout(getAsyncRestOperations().exchange(uri, GET, prepareRequest(headers), type));
+		}
+
+		private <T> ListenableFuture<T> toBody(ListenableFuture<ResponseEntity<T>> response) {
+
+			return ListenableFutures.map(response, new Function<ResponseEntity<T>, T>() {
+
+				@Override
+				public T apply(ResponseEntity<T> response) {
+					return response.getBody();
+				}
+			});
+		}
+
 		private Link traverseToLink(boolean expandFinalUrl) {
 
 			Assert.isTrue(rels.size() > 0, "At least one rel needs to be provided!");
@@ -348,8 +940,11 @@ public class Traverson {
 		}
 
 		private String traverseToFinalUrl(boolean expandFinalUrl) {
+			return toFinalUrl(getAndFindLinkWithRel(baseUri.toString(), rels.iterator()), expandFinalUrl);
+		}
+
+		private String toFinalUrl(String uri, boolean expandFinalUrl) {
 
-			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
 			UriTemplate uriTemplate = new UriTemplate(uri);
 			return expandFinalUrl ? uriTemplate.expand(templateParameters).toString() : uriTemplate.toString();
 		}
@@ -360,23 +955,393 @@ public class Traverson {
 				return uri;
 			}
 
-			HttpEntity<?> request = prepareRequest(headers);
-			UriTemplate uriTemplate = new UriTemplate(uri);
+			Hop hop = new Hop(new UriTemplate(uri).expand(templateParameters), rels.next(), prepareRequest(headers));
+			Link link = hop.getCachedLink();
 
-			ResponseEntity<String> responseEntity = operations.exchange(uriTemplate.expand(templateParameters), GET, request,
-					String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
-			String responseBody = responseEntity.getBody();
+			if (link == null) {
+
+				ResponseEntity<Link> response = streamingHops ? operations.execute(hop.getUri(), GET,
+						new HeadersRequestCallback(hop.getRequest().getHeaders()), new LinkResponseExtractor(hop.getRel()))
+						: hop.toLinkResponse(operations.exchange(hop.getUri(), GET, hop.getRequest(), String.class));
+
+				link = hop.resolve(response);
+			}
+
+			return getAndFindLinkWithRel(link.getHref(), rels);
+		}
+
+		private ListenableFuture<String> traverseToFinalUrlAsync(final boolean expandFinalUrl, SharedResponses responses) {
+
+			return ListenableFutures.map(getAndFindLinkWithRelAsync(baseUri.toString(), rels.iterator(), responses),
+					new Function<String, String>() {
+
+						@Override
+						public String apply(String uri) {
+							return toFinalUrl(uri, expandFinalUrl);
+						}
+					});
+		}
+
+		private ListenableFuture<String> getAndFindLinkWithRelAsync(String uri, final Iterator<String> rels,
+				final SharedResponses responses) {
+
+			if (!rels.hasNext()) {
+				return ListenableFutures.completed(uri);
+			}
+
+			final Hop hop = new Hop(new UriTemplate(uri).expand(templateParameters), rels.next(), prepareRequest(headers));
+			Link link = hop.getCachedLink();
+
+			if (link != null) {
+				return getAndFindLinkWithRelAsync(link.getHref(), rels, responses);
+			}
+
+			ListenableFuture<ResponseEntity<String>> response = responses == null ? exchangeAsync(hop.getUri(),
+					hop.getRequest()) : responses.exchange(hop.getUri(), hop.getRequest(), this);
+
+			return ListenableFutures.then(response, new Function<ResponseEntity<String>, ListenableFuture<String>>() {
+
+				@Override
+				public ListenableFuture<String> apply(ResponseEntity<String> response) {
+					return getAndFindLinkWithRelAsync(hop.resolve(hop.toLinkResponse(response)).getHref(), rels, responses);
+				}
+			});
+		}
+
+		private ListenableFuture<ResponseEntity<String>> exchangeAsync(URI uri, HttpEntity<?> request) {
+			return withHopTimeout(getAsyncRestOperations().exchange(uri, GET, request, String.class));
+		}
+
+		private <T> ListenableFuture<T> withHopTimeout(ListenableFuture<T> future) {
+			return ListenableFutures.withTimeout(future, hopTimeout, TimeUnit.MILLISECONDS, TimeoutScheduler.INSTANCE);
+		}
+	}
+
+	/**
+	 * The responses of the intermediate hops of a batch of asynchronous traversals. Makes sure a resource is only
+	 * requested once for all traversals requesting it with the same headers.
+	 * 
+	 * @author agent
+	 */
+	private static class SharedResponses {
+
+		private final ConcurrentMap<List<Object>, ListenableFuture<ResponseEntity<String>>> responses = //
+		new ConcurrentHashMap<List<Object>, ListenableFuture<ResponseEntity<String>>>();
+
+		/**
+		 * Returns the response for the given {@link URI} and request, issuing the request through the given
+		 * {@link TraversalBuilder} only if no other traversal did so before.
+		 * 
+		 * @param uri must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @param traversal must not be {@literal null}.
+		 * @return
+		 */
+		public ListenableFuture<ResponseEntity<String>> exchange(URI uri, HttpEntity<?> request,
+				TraversalBuilder traversal) {
+
+			List<Object> key = Arrays.<Object> asList(uri, request.getHeaders());
+			SettableFuture<ResponseEntity<String>> response = new SettableFuture<ResponseEntity<String>>();
+			ListenableFuture<ResponseEntity<String>> existing = responses.putIfAbsent(key, response);
+
+			if (existing != null) {
+				return existing;
+			}
+
+			ListenableFutures.forward(traversal.exchangeAsync(uri, request), response);
+			return response;
+		}
+	}
+
+	/**
+	 * A single step of a traversal, i.e. the request of a resource to look up the link with a given rel in it. Considers
+	 * the {@link HopCache} if configured.
+	 * 
+	 * @author agent
+	 */
+	private class Hop {
+
+		private final URI uri;
+		private final String relName;
+		private final Rel rel;
+		private final HttpEntity<?> request;
+		private final HopCache.Key key;
+		private final HopCache.Entry entry;
+
+		/**
+		 * Creates a new {@link Hop} to look up the link with the given rel in the resource with the given {@link URI}.
+		 * 
+		 * @param uri must not be {@literal null}.
+		 * @param rel must not be {@literal null} or empty.
+		 * @param request must not be {@literal null}.
+		 */
+		public Hop(URI uri, String rel, HttpEntity<?> request) {
+
+			this.uri = uri;
+			this.relName = rel;
+			this.rel = Rels.getRelFor(rel, discoverers);
+			this.key = hopCache == null ? null : new HopCache.Key(uri, rel, request.getHeaders());
+			this.entry = key == null ? null : hopCache.get(key);
+			this.request = entry == null || entry.getETag() == null ? request : revalidate(request, entry.getETag());
+		}
+
+		public URI getUri() {
+			return uri;
+		}
+
+		public Rel getRel() {
+			return rel;
+		}
+
+		/**
+		 * Returns the request to send, which will contain an {@code If-None-Match} header in case a cached link needs to
+		 * be revalidated.
+		 * 
+		 * @return
+		 */
+		public HttpEntity<?> getRequest() {
+			return request;
+		}
+
+		/**
+		 * Returns the cached {@link Link} if it can be used without issuing a request.
+		 * 
+		 * @return the {@link Link} or {@literal null} if the resource has to be requested.
+		 */
+		public Link getCachedLink() {
+			return entry != null && entry.isFresh() ? entry.getLink() : null;
+		}
+
+		/**
+		 * Looks up the link in the body of the given {@link ResponseEntity}.
+		 * 
+		 * @param response must not be {@literal null}.
+		 * @return a {@link ResponseEntity} with the {@link Link} found, which will only be missing for {@code 304 Not
+		 *         Modified} responses.
+		 */
+		public ResponseEntity<Link> toLinkResponse(ResponseEntity<String> response) {
+
+			if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+				return new ResponseEntity<Link>(response.getHeaders(), response.getStatusCode());
+			}
+
+			MediaType contentType = response.getHeaders().getContentType();
+			String responseBody = response.getBody();
 
-			Rel rel = Rels.getRelFor(rels.next(), discoverers);
 			Link link = rel.findInResponse(responseBody, contentType);
 
 			if (link == null) {
-				throw new IllegalStateException(String.format("Expected to find link with rel '%s' in response %s!", rel,
+				throw new IllegalStateException(String.format("Expected to find link with rel '%s' in response %s!", relName,
 						responseBody));
 			}
 
-			return getAndFindLinkWithRel(link.getHref(), rels);
+			return new ResponseEntity<Link>(link, response.getHeaders(), response.getStatusCode());
+		}
+
+		/**
+		 * Returns the {@link Link} from the given response or the cached one if the response confirmed it's still valid and
+		 * updates the {@link HopCache} if configured.
+		 * 
+		 * @param response must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @throws IllegalStateException in case the response doesn't contain the link.
+		 */
+		public Link resolve(ResponseEntity<Link> response) {
+
+			if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && entry != null) {
+
+				hopCache.refresh(key, entry, response.getHeaders());
+				return entry.getLink();
+			}
+
+			Link link = response.getBody();
+
+			if (link == null) {
+				throw new IllegalStateException(String.format("Expected to find link with rel '%s' in response of %s!",
+						relName, uri));
+			}
+
+			if (key != null) {
+				hopCache.put(key, link, response.getHeaders());
+			}
+
+			return link;
+		}
+
+		private HttpEntity<?> revalidate(HttpEntity<?> request, String eTag) {
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.putAll(request.getHeaders());
+			headers.setIfNoneMatch(eTag);
+
+			return new HttpEntity<Void>(headers);
+		}
+	}
+
+	/**
+	 * {@link RequestCallback} to add the given {@link HttpHeaders} to the request.
+	 * 
+	 * @author agent
+	 */
+	private static class HeadersRequestCallback implements RequestCallback {
+
+		private final HttpHeaders headers;
+
+		/**
+		 * Creates a new {@link HeadersRequestCallback} for the given {@link HttpHeaders}.
+		 * 
+		 * @param headers must not be {@literal null}.
+		 */
+		public HeadersRequestCallback(HttpHeaders headers) {
+
+			Assert.notNull(headers, "HttpHeaders must not be null!");
+			this.headers = headers;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.RequestCallback#doWithRequest(org.springframework.http.client.ClientHttpRequest)
+		 */
+		@Override
+		public void doWithRequest(ClientHttpRequest request) throws IOException {
+			request.getHeaders().putAll(headers);
+		}
+	}
+
+	/**
+	 * {@link ResponseExtractor} to look up the {@link Link} for a {@link Rel} in the response body without buffering it.
+	 * Doesn't read the body of {@code 304 Not Modified} responses.
+	 * 
+	 * @author agent
+	 */
+	private static class LinkResponseExtractor implements ResponseExtractor<ResponseEntity<Link>> {
+
+		private final Rel rel;
+
+		/**
+		 * Creates a new {@link LinkResponseExtractor} for the given {@link Rel}.
+		 * 
+		 * @param rel must not be {@literal null}.
+		 */
+		public LinkResponseExtractor(Rel rel) {
+
+			Assert.notNull(rel, "Rel must not be null!");
+			this.rel = rel;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.ResponseExtractor#extractData(org.springframework.http.client.ClientHttpResponse)
+		 */
+		@Override
+		public ResponseEntity<Link> extractData(ClientHttpResponse response) throws IOException {
+
+			HttpHeaders headers = response.getHeaders();
+			HttpStatus status = response.getStatusCode();
+
+			if (status == HttpStatus.NOT_MODIFIED) {
+				return new ResponseEntity<Link>(headers, status);
+			}
+
+			return new ResponseEntity<Link>(rel.findInResponse(response.getBody(), headers.getContentType()), headers, status);
+		}
+	}
+
+	/**
+	 * {@link ResponseExtractor} handing the items embedded in the response body to an {@link EmbeddedItemCallback} while
+	 * reading it and returning the remainder of the document as {@link PagedResources}.
+	 * 
+	 * @author agent
+	 */
+	private static class EmbeddedItemsResponseExtractor<T> implements ResponseExtractor<PagedResources<T>> {
+
+		private final ObjectMapper mapper;
+		private final JavaType type;
+		private final EmbeddedItemCallback<? super T> callback;
+
+		/**
+		 * Creates a new {@link EmbeddedItemsResponseExtractor} for the given {@link ObjectMapper}, item type and
+		 * {@link EmbeddedItemCallback}.
+		 * 
+		 * @param mapper must not be {@literal null}.
+		 * @param type must not be {@literal null}.
+		 * @param callback must not be {@literal null}.
+		 */
+		public EmbeddedItemsResponseExtractor(ObjectMapper mapper, JavaType type, EmbeddedItemCallback<? super T> callback) {
+
+			Assert.notNull(mapper, "ObjectMapper must not be null!");
+			Assert.notNull(type, "Item type must not be null!");
+			Assert.notNull(callback, "EmbeddedItemCallback must not be null!");
+
+			this.mapper = mapper;
+			this.type = type;
+			this.callback = callback;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.web.client.ResponseExtractor#extractData(org.springframework.http.client.ClientHttpResponse)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public PagedResources<T> extractData(ClientHttpResponse response) throws IOException {
+
+			HalEmbeddedIterator<T> items = new HalEmbeddedIterator<T>(mapper, response.getBody(), type);
+
+			try {
+
+				while (items.hasNext()) {
+					callback.doWithItem(items.next());
+				}
+
+				return items.getDocument(PagedResources.class);
+
+			} finally {
+				items.close();
+			}
+		}
+	}
+
+	/**
+	 * Holder for the {@link ThreadPoolTaskExecutor} used by the default {@link AsyncRestTemplate}. Uses a bounded number
+	 * of daemon threads instead of the thread per request the {@link AsyncRestTemplate} uses by default. Only
+	 * initialized on first use.
+	 * 
+	 * @author agent
+	 */
+	private static class AsyncExecutor {
+
+		static final int MAX_THREADS = 16;
+		static final ThreadPoolTaskExecutor INSTANCE;
+
+		static {
+
+			INSTANCE = new ThreadPoolTaskExecutor();
+			INSTANCE.setThreadNamePrefix("traverson-async-");
+			INSTANCE.setDaemon(true);
+			INSTANCE.setCorePoolSize(MAX_THREADS);
+			INSTANCE.setMaxPoolSize(MAX_THREADS);
+			INSTANCE.setAllowCoreThreadTimeOut(true);
+			INSTANCE.initialize();
+		}
+	}
+
+	/**
+	 * Holder for the {@link ScheduledExecutorService} timing out the requests of asynchronous traversals. Only
+	 * initialized on first use.
+	 * 
+	 * @author agent
+	 */
+	private static class TimeoutScheduler {
+
+		static final ScheduledExecutorService INSTANCE;
+
+		static {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("traverson-timeout-");
+			threadFactory.setDaemon(true);
+
+			INSTANCE = Executors.newSingleThreadScheduledExecutor(threadFactory);
 		}
 	}
 }
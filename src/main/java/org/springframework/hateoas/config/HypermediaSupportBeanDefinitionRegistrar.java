@@ -47,6 +47,7 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.CachingRelProvider;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
@@ -78,6 +79,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar {
 
 	private static final String DELEGATING_REL_PROVIDER_BEAN_NAME = "_relProvider";
+	private static final String PLUGIN_REL_PROVIDER_BEAN_NAME = "_pluginRelProvider";
 	private static final String LINK_DISCOVERER_REGISTRY_BEAN_NAME = "_linkDiscovererRegistry";
 	private static final String HAL_OBJECT_MAPPER_BEAN_NAME = "_halObjectMapper";
 
@@ -144,7 +146,8 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 
 	/**
 	 * Registers bean definitions for a {@link PluginRegistry} to capture {@link RelProvider} instances. Wraps the
-	 * registry into a {@link DelegatingRelProvider} bean definition backed by the registry.
+	 * registry into a {@link DelegatingRelProvider} bean definition backed by the registry and exposes the latter through
+	 * a primary {@link CachingRelProvider}.
 	 * 
 	 * @param registry
 	 */
@@ -160,15 +163,20 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		BeanDefinitionBuilder registryFactoryBeanBuilder = BeanDefinitionBuilder
 				.rootBeanDefinition(PluginRegistryFactoryBean.class);
 		registryFactoryBeanBuilder.addPropertyValue("type", RelProvider.class);
-		registryFactoryBeanBuilder.addPropertyValue("exclusions", DelegatingRelProvider.class);
+		registryFactoryBeanBuilder.addPropertyValue("exclusions", new Class<?>[] { DelegatingRelProvider.class,
+				CachingRelProvider.class });
 
 		AbstractBeanDefinition registryBeanDefinition = registryFactoryBeanBuilder.getBeanDefinition();
 		registry.registerBeanDefinition("relProviderPluginRegistry", registryBeanDefinition);
 
 		BeanDefinitionBuilder delegateBuilder = BeanDefinitionBuilder.rootBeanDefinition(DelegatingRelProvider.class);
 		delegateBuilder.addConstructorArgValue(registryBeanDefinition);
+		registry.registerBeanDefinition(PLUGIN_REL_PROVIDER_BEAN_NAME, delegateBuilder.getBeanDefinition());
 
-		AbstractBeanDefinition beanDefinition = delegateBuilder.getBeanDefinition();
+		BeanDefinitionBuilder cachingBuilder = BeanDefinitionBuilder.rootBeanDefinition(CachingRelProvider.class);
+		cachingBuilder.addConstructorArgReference(PLUGIN_REL_PROVIDER_BEAN_NAME);
+
+		AbstractBeanDefinition beanDefinition = cachingBuilder.getBeanDefinition();
 		beanDefinition.setPrimary(true);
 		registry.registerBeanDefinition(DELEGATING_REL_PROVIDER_BEAN_NAME, beanDefinition);
 	}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.Map;
+
+import org.springframework.hateoas.RelProvider;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link RelProvider} caching the relation types obtained from a delegate {@link RelProvider} per type. The caches
+ * only hold soft references to the types to not prevent class loaders from being garbage collected and are cleared
+ * once they contain more than a configurable number of types.
+ *
+ * @author agent
+ */
+public class CachingRelProvider implements RelProvider {
+
+	static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final RelProvider delegate;
+	private final int cacheLimit;
+
+	private final Map<Class<?>, String> itemRels = new ConcurrentReferenceHashMap<Class<?>, String>();
+	private final Map<Class<?>, String> collectionRels = new ConcurrentReferenceHashMap<Class<?>, String>();
+
+	/**
+	 * Creates a new {@link CachingRelProvider} for the given delegate {@link RelProvider}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingRelProvider(RelProvider delegate) {
+		this(delegate, DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@link CachingRelProvider} for the given delegate {@link RelProvider} caching the relation types of
+	 * at most the given number of types.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param cacheLimit must be greater than zero.
+	 */
+	public CachingRelProvider(RelProvider delegate, int cacheLimit) {
+
+		Assert.notNull(delegate, "Delegate RelProvider must not be null!");
+		Assert.isTrue(cacheLimit > 0, "Cache limit must be greater than zero!");
+
+		this.delegate = delegate;
+		this.cacheLimit = cacheLimit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.RelProvider#getItemResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public String getItemResourceRelFor(Class<?> type) {
+
+		String rel = itemRels.get(type);
+
+		if (rel == null) {
+			rel = delegate.getItemResourceRelFor(type);
+			cache(itemRels, type, rel);
+		}
+
+		return rel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.RelProvider#getCollectionResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public String getCollectionResourceRelFor(Class<?> type) {
+
+		String rel = collectionRels.get(type);
+
+		if (rel == null) {
+			rel = delegate.getCollectionResourceRelFor(type);
+			cache(collectionRels, type, rel);
+		}
+
+		return rel;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Class<?> delimiter) {
+		return delegate.supports(delimiter);
+	}
+
+	/**
+	 * Caches the given rel for the given type. Rels resolved to {@literal null} are not cached to be looked up again
+	 * next time.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param rel can be {@literal null}.
+	 */
+	private void cache(Map<Class<?>, String> cache, Class<?> type, String rel) {
+
+		if (type == null || rel == null) {
+			return;
+		}
+
+		if (cache.size() >= cacheLimit) {
+			cache.clear();
+		}
+
+		cache.put(type, rel);
+	}
+}
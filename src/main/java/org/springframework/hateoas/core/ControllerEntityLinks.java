@@ -16,6 +16,7 @@
 package org.springframework.hateoas.core;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.annotation.AnnotationUtils;
@@ -133,7 +134,32 @@ public class ControllerEntityLinks extends AbstractEntityLinks {
 	 */
 	@Override
 	public Link linkToSingleResource(Class<?> entity, Object id) {
-		return linkFor(entity).slash(id).withSelfRel();
+		return linkTemplateForSingleResource(entity).expand(id, Link.REL_SELF);
+	}
+
+	/**
+	 * Returns {@link Link}s pointing to the single resources of the given type identified by the given ids. Resolves the
+	 * link to the collection resource only once and appends the individual ids to it.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param ids must not be {@literal null}, {@link org.springframework.hateoas.Identifiable}s will be unwrapped.
+	 * @return the {@link Link}s in the order of the given ids.
+	 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+	 */
+	public List<Link> linksToSingleResources(Class<?> entity, Iterable<?> ids) {
+		return linkTemplateForSingleResource(entity).expand(ids, Link.REL_SELF);
+	}
+
+	/**
+	 * Returns a {@link LinkTemplate} to create links to single resources of the given type. The template is bound to the
+	 * current request, so it must not be cached beyond it.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+	 */
+	public LinkTemplate linkTemplateForSingleResource(Class<?> entity) {
+		return new LinkTemplate(linkFor(entity));
 	}
 
 	/* 
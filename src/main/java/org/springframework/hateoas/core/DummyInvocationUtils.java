@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2014 the original author or authors.
+ * Copyright 2012-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@ package org.springframework.hateoas.core;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.springframework.aop.framework.ProxyFactory;
@@ -28,6 +30,8 @@ import org.springframework.cglib.proxy.Factory;
 import org.springframework.cglib.proxy.MethodProxy;
 import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -38,6 +42,7 @@ import org.springframework.util.ReflectionUtils;
 public class DummyInvocationUtils {
 
 	private static ObjenesisStd OBJENESIS = new ObjenesisStd();
+	private static final Map<ProxyClassKey, Class<?>> PROXY_CLASSES = new ConcurrentReferenceHashMap<ProxyClassKey, Class<?>>();
 
 	public interface LastInvocationAware {
 
@@ -148,6 +153,35 @@ public class DummyInvocationUtils {
 		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
 	}
 
+	/**
+	 * Returns a {@link LastInvocationAware} representing an invocation of the given {@link Method} with the given
+	 * arguments on an instance of the given type. Other than {@link #methodOn(Class, Object...)} this doesn't create a
+	 * proxy and is thus the cheaper option in case the {@link Method} to point to is already at hand, e.g. resolved once
+	 * and held in a constant. Note, that template variables contained in the type level mapping cannot be expanded using
+	 * this method, use {@link #methodOn(Class, Object...)} for those.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the arguments the method is considered to be invoked with, must match the method's parameters.
+	 * @return
+	 * @since 0.18
+	 */
+	public static LastInvocationAware invocationOf(Class<?> type, Method method, Object... arguments) {
+
+		Assert.notNull(type, "Given type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+		Assert.isTrue(method.getDeclaringClass().isAssignableFrom(type),
+				String.format("Method %s is not declared on type %s!", method, type.getName()));
+
+		Object[] argumentsToUse = arguments == null ? new Object[0] : arguments;
+
+		Assert.isTrue(method.getParameterTypes().length == argumentsToUse.length, String.format(
+				"Method %s expects %s arguments but got %s!", method, method.getParameterTypes().length,
+				argumentsToUse.length));
+
+		return new SimpleLastInvocationAware(new SimpleMethodInvocation(type, method, argumentsToUse));
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
 			ClassLoader classLoader) {
@@ -162,15 +196,117 @@ public class DummyInvocationUtils {
 			return (T) factory.getProxy();
 		}
 
+		Factory factory = (Factory) OBJENESIS.newInstance(getProxyClass(type, classLoader));
+		factory.setCallbacks(new Callback[] { interceptor });
+		return (T) factory;
+	}
+
+	/**
+	 * Returns the CGLib proxy class for the given type and {@link ClassLoader}. Proxy classes are generated once and
+	 * cached as the interceptor is registered per instance.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 * @return
+	 */
+	private static Class<?> getProxyClass(Class<?> type, ClassLoader classLoader) {
+
+		ProxyClassKey key = new ProxyClassKey(type, classLoader);
+		Class<?> proxyClass = PROXY_CLASSES.get(key);
+
+		if (proxyClass != null) {
+			return proxyClass;
+		}
+
 		Enhancer enhancer = new Enhancer();
 		enhancer.setSuperclass(type);
 		enhancer.setInterfaces(new Class<?>[] { LastInvocationAware.class });
 		enhancer.setCallbackType(org.springframework.cglib.proxy.MethodInterceptor.class);
 		enhancer.setClassLoader(classLoader);
 
-		Factory factory = (Factory) OBJENESIS.newInstance(enhancer.createClass());
-		factory.setCallbacks(new Callback[] { interceptor });
-		return (T) factory;
+		proxyClass = enhancer.createClass();
+		PROXY_CLASSES.put(key, proxyClass);
+
+		return proxyClass;
+	}
+
+	/**
+	 * {@link LastInvocationAware} exposing a {@link MethodInvocation} that has been created without recording it through
+	 * a proxy.
+	 * 
+	 * @author agent
+	 */
+	private static class SimpleLastInvocationAware implements LastInvocationAware {
+
+		private final MethodInvocation invocation;
+
+		public SimpleLastInvocationAware(MethodInvocation invocation) {
+			this.invocation = invocation;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getObjectParameters()
+		 */
+		@Override
+		public Iterator<Object> getObjectParameters() {
+			return Collections.<Object> emptyList().iterator();
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware#getLastInvocation()
+		 */
+		@Override
+		public MethodInvocation getLastInvocation() {
+			return invocation;
+		}
+	}
+
+	/**
+	 * Cache key for generated proxy classes.
+	 * 
+	 * @author agent
+	 */
+	private static final class ProxyClassKey {
+
+		private final Class<?> type;
+		private final ClassLoader classLoader;
+
+		public ProxyClassKey(Class<?> type, ClassLoader classLoader) {
+
+			this.type = type;
+			this.classLoader = classLoader;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ProxyClassKey)) {
+				return false;
+			}
+
+			ProxyClassKey that = (ProxyClassKey) obj;
+
+			return this.type.equals(that.type) && ObjectUtils.nullSafeEquals(this.classLoader, that.classLoader);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + ObjectUtils.nullSafeHashCode(classLoader);
+		}
 	}
 
 	public interface MethodInvocation {
@@ -23,11 +23,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minidev.json.JSONArray;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -35,16 +39,21 @@ import org.springframework.util.StringUtils;
 
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
 
 /**
  * {@link LinkDiscoverer} that uses {@link JsonPath} to find links inside a representation.
  * 
  * @author Oliver Gierke
  */
-public class JsonPathLinkDiscoverer implements LinkDiscoverer {
+public class JsonPathLinkDiscoverer implements MultiRelLinkDiscoverer {
+
+	private static final int CACHE_LIMIT = 256;
 
 	private static Method compileMethod;
 	private static Object emptyFilters;
+	private static Method parseStringMethod;
+	private static Method parseStreamMethod;
 
 	static {
 
@@ -64,10 +73,18 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		}
 
 		Assert.state(compileMethod != null, "Unexpected JsonPath API - no compile(String, ...) method found");
+
+		// parse(…) returns a ReadContext in 0.9.x and a DocumentContext in 1.x
+		parseStringMethod = ReflectionUtils.findMethod(JsonPath.class, "parse", String.class);
+		parseStreamMethod = ReflectionUtils.findMethod(JsonPath.class, "parse", InputStream.class);
+
+		Assert.state(parseStringMethod != null && parseStreamMethod != null,
+				"Unexpected JsonPath API - no parse(String) or parse(InputStream) method found");
 	}
 
 	private final String pathTemplate;
 	private final MediaType mediaType;
+	private final Map<String, JsonPath> expressions = new ConcurrentHashMap<String, JsonPath>();
 
 	/**
 	 * Creates a new {@link JsonPathLinkDiscoverer} using the given path template supporting the given {@link MediaType}.
@@ -139,13 +156,101 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 	}
 
 	/**
-	 * Returns the {@link JsonPath} to find links with the given relation type.
+	 * Returns the links for all given relation types found in the given {@link String} representation. Requires at
+	 * least one relation type to be given as all links cannot be looked up using a path template.
+	 * 
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinks(java.lang.String, java.lang.String[])
+	 */
+	@Override
+	public Links findLinks(String representation, String... rels) {
+
+		Assert.notEmpty(rels, "At least one relation type must be given!");
+
+		return findLinks(parse(parseStringMethod, representation), rels);
+	}
+
+	/**
+	 * Returns the links for all given relation types found in the given {@link InputStream} representation. Requires at
+	 * least one relation type to be given as all links cannot be looked up using a path template.
+	 * 
+	 * @see org.springframework.hateoas.MultiRelLinkDiscoverer#findLinks(java.io.InputStream, java.lang.String[])
+	 */
+	@Override
+	public Links findLinks(InputStream representation, String... rels) {
+
+		Assert.notEmpty(rels, "At least one relation type must be given!");
+
+		return findLinks(parse(parseStreamMethod, representation), rels);
+	}
+
+	/**
+	 * Parses the given representation using the given {@code parse(…)} method of {@link JsonPath} and returns the parsed
+	 * document.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return
+	 */
+	private static Object parse(Method method, Object representation) {
+
+		ReadContext context = (ReadContext) ReflectionUtils.invokeMethod(method, null, representation);
+		return context.json();
+	}
+
+	/**
+	 * Evaluates the expressions for all given relation types against the given, already parsed document.
+	 * 
+	 * @param document must not be {@literal null}.
+	 * @param rels must not be {@literal null}.
+	 * @return
+	 */
+	private Links findLinks(Object document, String... rels) {
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (String rel : rels) {
+
+			try {
+
+				Object parseResult = getExpression(rel).read(document);
+
+				if (parseResult != null) {
+					links.addAll(createLinksFrom(parseResult, rel));
+				}
+
+			} catch (InvalidPathException o_O) {
+				// no links for the rel
+			}
+		}
+
+		return new Links(links);
+	}
+
+	/**
+	 * Returns the {@link JsonPath} to find links with the given relation type. Compiled expressions are cached per
+	 * relation type, the cache is cleared once it exceeds a fixed number of entries.
 	 * 
 	 * @param rel
 	 * @return
 	 */
 	private JsonPath getExpression(String rel) {
-		return (JsonPath) ReflectionUtils.invokeMethod(compileMethod, null, String.format(pathTemplate, rel), emptyFilters);
+
+		JsonPath expression = expressions.get(rel);
+
+		if (expression != null) {
+			return expression;
+		}
+
+		expression = (JsonPath) ReflectionUtils.invokeMethod(compileMethod, null, String.format(pathTemplate, rel),
+				emptyFilters);
+
+		if (expressions.size() >= CACHE_LIMIT) {
+			expressions.clear();
+		}
+
+		expressions.put(rel, expression);
+
+		return expression;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2014 the original author or authors.
+ * Copyright 2012-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,7 +36,8 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
-	private final UriComponents uriComponents;
+	private final String uri;
+	private UriComponents uriComponents;
 
 	/**
 	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponentsBuilder}.
@@ -46,7 +47,22 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	public LinkBuilderSupport(UriComponentsBuilder builder) {
 
 		Assert.notNull(builder);
+
 		this.uriComponents = builder.build();
+		this.uri = null;
+	}
+
+	/**
+	 * Creates a new {@link LinkBuilderSupport} for the given URI. The URI has to be encoded and normalized already, i.e.
+	 * {@link #toString()} will return it as is. The {@link UriComponents} are only created from it if needed.
+	 * 
+	 * @param uri must not be {@literal null} or empty.
+	 */
+	protected LinkBuilderSupport(String uri) {
+
+		Assert.hasText(uri, "URI must not be null or empty!");
+
+		this.uri = uri;
 	}
 
 	/*
@@ -73,6 +89,11 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 			return getThis();
 		}
 
+		if (uri != null && isSimpleSegment(path) && canAppendSegmentTo(uri)) {
+			return createNewInstance(uri.concat("/").concat(path));
+		}
+
+		UriComponents uriComponents = getUriComponents();
 		String uriString = uriComponents.toUriString();
 		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(uriComponents.toUri())
 				: fromUriString(uriString);
@@ -109,7 +130,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return uriComponents.encode().toUri();
+		return getUriComponents().encode().toUri();
 	}
 
 	/*
@@ -134,7 +155,43 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return toUri().normalize().toASCIIString();
+		return uri != null ? uri : toUri().normalize().toASCIIString();
+	}
+
+	private UriComponents getUriComponents() {
+
+		if (uriComponents == null) {
+			this.uriComponents = fromUriString(uri).build();
+		}
+
+		return uriComponents;
+	}
+
+	/**
+	 * Returns whether the given path is a single segment only consisting of unreserved characters as defined in RFC 3986
+	 * and thus can be appended without encoding or normalization.
+	 * 
+	 * @param path must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isSimpleSegment(String path) {
+
+		if (".".equals(path) || "..".equals(path)) {
+			return false;
+		}
+
+		return path.length() == 0 || UriSyntaxUtils.isUnreserved(path);
+	}
+
+	/**
+	 * Returns whether a path segment can simply be appended to the given URI, i.e. it neither has a query nor a fragment
+	 * and doesn't end with a slash.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 * @return
+	 */
+	static boolean canAppendSegmentTo(String uri) {
+		return uri.indexOf('?') == -1 && uri.indexOf('#') == -1 && !uri.endsWith("/");
 	}
 
 	/**
@@ -151,4 +208,16 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @return
 	 */
 	protected abstract T createNewInstance(UriComponentsBuilder builder);
+
+	/**
+	 * Creates a new instance of the sub-class for the given already encoded and normalized URI. Parses the URI into a
+	 * {@link UriComponentsBuilder} by default, override to avoid the parsing by using
+	 * {@link #LinkBuilderSupport(String)}.
+	 * 
+	 * @param uri will never be {@literal null} or empty.
+	 * @return
+	 */
+	protected T createNewInstance(String uri) {
+		return createNewInstance(fromUriString(uri));
+	}
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * A link resolved once up to a single identifier so that {@link Link}s for a lot of identifiers can be created by
+ * simply concatenating the resolved parts and the identifier. Identifiers that consist of characters that would have to
+ * be encoded are handled as well but don't benefit from the shortcut.
+ *
+ * @author agent
+ * @see ControllerEntityLinks#linkTemplateForSingleResource(Class)
+ */
+public final class LinkTemplate {
+
+	private static final String ENCODING = "UTF-8";
+
+	private final String prefix;
+	private final String suffix;
+	private final LinkBuilder base;
+
+	/**
+	 * Creates a new {@link LinkTemplate} placing the identifiers between the given, already encoded prefix and suffix.
+	 * Identifiers requiring encoding are encoded as a single path segment. Empty identifiers are rejected as they'd
+	 * result in an empty path segment.
+	 *
+	 * @param prefix must not be {@literal null} or empty.
+	 * @param suffix must not be {@literal null}.
+	 */
+	public LinkTemplate(String prefix, String suffix) {
+
+		Assert.hasText(prefix, "Prefix must not be null or empty!");
+		Assert.notNull(suffix, "Suffix must not be null!");
+
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.base = null;
+	}
+
+	/**
+	 * Creates a new {@link LinkTemplate} appending the identifiers to the given {@link LinkBuilder}. Creates the same
+	 * links as {@link LinkBuilder#slash(Object)} does.
+	 *
+	 * @param base must not be {@literal null}.
+	 */
+	public LinkTemplate(LinkBuilder base) {
+
+		Assert.notNull(base, "Base LinkBuilder must not be null!");
+
+		String uri = base.toString();
+
+		this.prefix = LinkBuilderSupport.canAppendSegmentTo(uri) ? uri.concat("/") : null;
+		this.suffix = "";
+		this.base = base;
+	}
+
+	/**
+	 * Creates a {@link Link} with the given rel for the given identifier. {@link Identifiable}s will be unwrapped.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	public Link expand(Object id, String rel) {
+
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		return new Link(render(id), rel);
+	}
+
+	/**
+	 * Creates {@link Link}s with the given rel for all given identifiers in the order of the given identifiers.
+	 * {@link Identifiable}s will be unwrapped.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	public List<Link> expand(Iterable<?> ids, String rel) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		List<Link> links = ids instanceof Collection ? new ArrayList<Link>(((Collection<?>) ids).size())
+				: new ArrayList<Link>();
+
+		for (Object id : ids) {
+			links.add(new Link(render(id), rel));
+		}
+
+		return links;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return prefix == null ? base.toString() : prefix.concat("{id}").concat(suffix);
+	}
+
+	private String render(Object id) {
+
+		Object value = id instanceof Identifiable ? ((Identifiable<?>) id).getId() : id;
+
+		String string = value == null ? null : value.toString();
+
+		if (base == null) {
+			Assert.hasLength(string, "Identifier must not be null or empty!");
+		}
+
+		if (prefix != null && StringUtils.hasText(string) && LinkBuilderSupport.isSimpleSegment(string)) {
+			return prefix.concat(string).concat(suffix);
+		}
+
+		if (base != null) {
+			return base.slash(value).toString();
+		}
+
+		return prefix.concat(encode(string)).concat(suffix);
+	}
+
+	/**
+	 * Encodes the given value as path segment. Encodes dots of {@code .} and {@code ..} segments as well as they'd be
+	 * removed by normalization otherwise.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private static String encode(String value) {
+
+		if (".".equals(value) || "..".equals(value)) {
+			return value.replace(".", "%2E");
+		}
+
+		try {
+			return UriUtils.encodePathSegment(value, ENCODING);
+		} catch (UnsupportedEncodingException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+/**
+ * Helper methods to check URI parts against the syntax defined in RFC 3986. Used to detect the cases in which URIs can
+ * be rendered by simple concatenation as neither encoding nor path normalization would change them. Mainly for
+ * internal use within the framework.
+ *
+ * @author agent
+ * @since 0.18
+ * @see http://tools.ietf.org/html/rfc3986
+ */
+public abstract class UriSyntaxUtils {
+
+	private UriSyntaxUtils() {}
+
+	/**
+	 * Returns whether the given character is an unreserved character as defined in RFC 3986, i.e. one that never gets
+	 * encoded.
+	 *
+	 * @param c the character to check.
+	 * @return
+	 */
+	public static boolean isUnreserved(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.' || c == '_'
+				|| c == '~';
+	}
+
+	/**
+	 * Returns whether the given {@link String} is not empty and only consists of unreserved characters as defined in
+	 * RFC 3986.
+	 *
+	 * @param source can be {@literal null}.
+	 * @return
+	 */
+	public static boolean isUnreserved(String source) {
+
+		if (source == null || source.length() == 0) {
+			return false;
+		}
+
+		for (int i = 0; i < source.length(); i++) {
+			if (!isUnreserved(source.charAt(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether the given {@link String} only consists of slashes and unreserved characters as defined in RFC 3986,
+	 * i.e. whether it can be used as path without encoding it.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean isPathLiteral(String source) {
+
+		for (int i = 0; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (c != '/' && !isUnreserved(c)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether the path starting at the given index of the given {@link CharSequence} contains neither empty
+	 * segments nor {@code .} or {@code ..} segments, i.e. whether it would be left untouched by path sanitization and
+	 * normalization. A trailing slash is allowed.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param start the index the path starts at.
+	 * @return
+	 */
+	public static boolean isNormalizedPath(CharSequence source, int start) {
+
+		int length = source.length();
+		int segmentStart = start < length && source.charAt(start) == '/' ? start + 1 : start;
+
+		for (int i = segmentStart; i <= length; i++) {
+
+			if (i < length && source.charAt(i) != '/') {
+				continue;
+			}
+
+			int segmentLength = i - segmentStart;
+
+			if (segmentLength == 0 && i < length) {
+				return false;
+			}
+
+			if (segmentLength == 1 && source.charAt(segmentStart) == '.' || segmentLength == 2
+					&& source.charAt(segmentStart) == '.' && source.charAt(segmentStart + 1) == '.') {
+				return false;
+			}
+
+			segmentStart = i + 1;
+		}
+
+		return true;
+	}
+}
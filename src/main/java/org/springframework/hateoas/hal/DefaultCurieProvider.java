@@ -17,6 +17,8 @@ package org.springframework.hateoas.hal;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.hateoas.IanaRels;
 import org.springframework.hateoas.Link;
@@ -33,7 +35,10 @@ import org.springframework.util.Assert;
  */
 public class DefaultCurieProvider implements CurieProvider {
 
+	private static final int CACHE_LIMIT = 256;
+
 	private final Curie curie;
+	private final Map<String, String> namespacedRels = new ConcurrentHashMap<String, String>();
 
 	/**
 	 * Creates a new {@link DefaultCurieProvider} for the given name and {@link UriTemplate}.
@@ -76,8 +81,22 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public String getNamespacedRelFor(String rel) {
 
+		String namespacedRel = namespacedRels.get(rel);
+
+		if (namespacedRel != null) {
+			return namespacedRel;
+		}
+
 		boolean prefixingNeeded = !IanaRels.isIanaRel(rel) && !rel.contains(":");
-		return prefixingNeeded ? String.format("%s:%s", curie.name, rel) : rel;
+		namespacedRel = prefixingNeeded ? curie.name.concat(":").concat(rel) : rel;
+
+		if (namespacedRels.size() >= CACHE_LIMIT) {
+			namespacedRels.clear();
+		}
+
+		namespacedRels.put(rel, namespacedRel);
+
+		return namespacedRel;
 	}
 
 	/**
@@ -90,9 +90,16 @@ class HalEmbeddedBuilder {
 			return;
 		}
 
-		List<Object> list = new ArrayList<Object>();
-		list.addAll(asCollection(currentValue));
-		list.addAll(asCollection(wrapper.getValue()));
+		EmbeddedList list;
+
+		if (currentValue instanceof EmbeddedList) {
+			list = (EmbeddedList) currentValue;
+		} else {
+			list = new EmbeddedList();
+			list.addAll(asCollection(currentValue));
+		}
+
+		list.addAll(asCollection(value));
 
 		embeddeds.remove(collectionOrItemRel);
 		embeddeds.put(collectionRel, list);
@@ -139,4 +146,16 @@ class HalEmbeddedBuilder {
 	public Map<String, Object> asMap() {
 		return Collections.unmodifiableMap(embeddeds);
 	}
+
+	/**
+	 * The {@link List} collecting the values for a collection rel. Using a dedicated type allows to add further values to
+	 * lists created by the builder itself, instead of copying them on each addition, while collections handed in by the
+	 * user are never modified.
+	 * 
+	 * @author agent
+	 */
+	private static class EmbeddedList extends ArrayList<Object> {
+
+		private static final long serialVersionUID = -7390420283585547349L;
+	}
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.springframework.hateoas.PagedResources;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link Iterator} over the items embedded in a HAL document read from an {@link InputStream}. In contrast to
+ * deserializing the document into {@link org.springframework.hateoas.Resources}, the items are only deserialized one by
+ * one on calls to {@link #next()}, so that only a single item has to be held in memory and processing can start before
+ * the document has been read completely. Items of all relation types in the {@code _embedded} object are returned in
+ * the order they appear in the document.
+ * <p>
+ * All other properties of the document are kept and can be obtained via {@link #getDocument(Class)}, e.g. as
+ * {@link PagedResources} to access the links and page metadata. The {@link ObjectMapper} used needs to have the
+ * {@link Jackson2HalModule} registered.
+ *
+ * @author agent
+ * @since 0.18
+ */
+public class HalEmbeddedIterator<T> implements Iterator<T>, Closeable {
+
+	private static final String EMBEDDED = "_embedded";
+
+	private final ObjectMapper mapper;
+	private final JsonParser parser;
+	private final JavaType type;
+	private final ObjectNode document;
+
+	private boolean inEmbedded = false;
+	private boolean inArray = false;
+	private boolean positioned = false;
+	private boolean finished = false;
+	private boolean closed = false;
+
+	/**
+	 * Creates a new {@link HalEmbeddedIterator} reading the HAL document from the given {@link InputStream} and
+	 * deserializing the embedded items into the given type. The {@link InputStream} will be closed on {@link #close()}.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @throws IOException in case the document doesn't start with a JSON object.
+	 */
+	public HalEmbeddedIterator(ObjectMapper mapper, InputStream source, Class<T> type) throws IOException {
+		this(mapper, source, mapper.getTypeFactory().constructType(type));
+	}
+
+	/**
+	 * Creates a new {@link HalEmbeddedIterator} reading the HAL document from the given {@link InputStream} and
+	 * deserializing the embedded items into the given {@link JavaType}. The {@link InputStream} will be closed on
+	 * {@link #close()}.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param type must not be {@literal null}, has to be assignable to the iterator's element type.
+	 * @throws IOException in case the document doesn't start with a JSON object.
+	 */
+	public HalEmbeddedIterator(ObjectMapper mapper, InputStream source, JavaType type) throws IOException {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(source, "InputStream must not be null!");
+		Assert.notNull(type, "Item type must not be null!");
+
+		this.mapper = mapper;
+		this.parser = mapper.getFactory().createParser(source);
+		this.type = type;
+		this.document = mapper.createObjectNode();
+
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+
+			parser.close();
+			throw new JsonMappingException("Expected a JSON object as HAL document!", parser.getCurrentLocation());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		if (positioned) {
+			return true;
+		}
+
+		if (finished || closed) {
+			return false;
+		}
+
+		try {
+			this.positioned = advance();
+		} catch (IOException o_O) {
+			throw new IllegalStateException("Could not read HAL document!", o_O);
+		}
+
+		return positioned;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		this.positioned = false;
+
+		try {
+			return mapper.readValue(parser, type);
+		} catch (IOException o_O) {
+			throw new IllegalStateException("Could not read embedded item!", o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns the HAL document without its embedded items deserialized into the given type. Reads the remainder of the
+	 * document, skipping all items not consumed yet, and closes the iterator.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @throws IOException in case the document cannot be read or mapped to the given type.
+	 * @throws IllegalStateException in case the iterator was closed before the document was read completely.
+	 */
+	public <R> R getDocument(Class<R> type) throws IOException {
+
+		Assert.notNull(type, "Document type must not be null!");
+
+		if (!finished) {
+
+			Assert.state(!closed, "Iterator was closed before the document was read completely!");
+
+			while (hasNext()) {
+				parser.skipChildren();
+				this.positioned = false;
+			}
+		}
+
+		close();
+
+		return mapper.treeToValue(document, type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+
+		this.closed = true;
+		parser.close();
+	}
+
+	/**
+	 * Moves the parser to the start of the next embedded item, collecting all properties outside of {@code _embedded}
+	 * on the way.
+	 *
+	 * @return whether the parser points to an item.
+	 */
+	private boolean advance() throws IOException {
+
+		while (true) {
+
+			if (inArray) {
+
+				if (parser.nextToken() != JsonToken.END_ARRAY) {
+					return true;
+				}
+
+				this.inArray = false;
+				continue;
+			}
+
+			if (inEmbedded) {
+
+				if (parser.nextToken() != JsonToken.FIELD_NAME) {
+					this.inEmbedded = false;
+					continue;
+				}
+
+				if (parser.nextToken() != JsonToken.START_ARRAY) {
+					return true;
+				}
+
+				this.inArray = true;
+				continue;
+			}
+
+			if (parser.nextToken() != JsonToken.FIELD_NAME) {
+				this.finished = true;
+				return false;
+			}
+
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if (EMBEDDED.equals(name) && token == JsonToken.START_OBJECT) {
+				this.inEmbedded = true;
+				continue;
+			}
+
+			JsonNode value = mapper.readTree(parser);
+			document.set(name, value == null ? NullNode.getInstance() : value);
+		}
+	}
+}
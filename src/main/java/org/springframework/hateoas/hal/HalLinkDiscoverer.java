@@ -1,5 +1,5 @@
 /*
- * Copyright 2013 the original author or authors.
+ * Copyright 2013-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,18 +15,405 @@
  */
 package org.springframework.hateoas.hal;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 /**
- * {@link LinkDiscoverer} implementation based on HAL link structure.
- * 
+ * {@link LinkDiscoverer} implementation based on HAL link structure. Walks the representation using a streaming JSON
+ * parser, skipping everything but the {@code _links} object, and stops as soon as the requested links are found.
+ * {@link InputStream}s are only read up to that point. The bytes read from them are buffered while parsing, so that
+ * they can be handed to the {@link JsonPathLinkDiscoverer} as fallback for representations the streaming parser cannot
+ * read. In contrast to the {@link JsonPathLinkDiscoverer}, {@link #findLinks(String, String...)} returns all links if
+ * no relation types are given.
+ *
  * @author Oliver Gierke
  */
 public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 
+	private static final String LINKS = "_links";
+	private static final String HREF = "href";
+
+	private static final JsonFactory FACTORY = new JsonFactory() //
+			.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES) //
+			.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
+
 	public HalLinkDiscoverer() {
 		super("$._links..['%s']..href", MediaTypes.HAL_JSON);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinkWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public Link findLinkWithRel(String rel, String representation) {
+
+		List<Link> links = findLinks(rel, representation, true);
+
+		if (links == null) {
+			return super.findLinkWithRel(rel, representation);
+		}
+
+		return links.isEmpty() ? null : links.get(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinkWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public Link findLinkWithRel(String rel, InputStream representation) {
+
+		RecordingInputStream stream = new RecordingInputStream(representation);
+		List<Link> links = collect(stream, new LinkCollector(new String[] { rel }, true));
+
+		if (links == null) {
+			return super.findLinkWithRel(rel, stream.replay());
+		}
+
+		return links.isEmpty() ? null : links.get(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, String representation) {
+
+		List<Link> links = findLinks(rel, representation, false);
+		return links == null ? super.findLinksWithRel(rel, representation) : links;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, InputStream representation) {
+
+		RecordingInputStream stream = new RecordingInputStream(representation);
+		List<Link> links = collect(stream, new LinkCollector(new String[] { rel }, false));
+
+		return links == null ? super.findLinksWithRel(rel, stream.replay()) : links;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinks(java.lang.String, java.lang.String[])
+	 */
+	@Override
+	public Links findLinks(String representation, String... rels) {
+
+		List<Link> links = collect(representation, new LinkCollector(rels, false));
+		return links == null ? super.findLinks(representation, rels) : new Links(links);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinks(java.io.InputStream, java.lang.String[])
+	 */
+	@Override
+	public Links findLinks(InputStream representation, String... rels) {
+
+		RecordingInputStream stream = new RecordingInputStream(representation);
+		List<Link> links = collect(stream, new LinkCollector(rels, false));
+
+		return links == null ? super.findLinks(stream.replay(), rels) : new Links(links);
+	}
+
+	private static List<Link> findLinks(String rel, String representation, boolean firstOnly) {
+		return collect(representation, new LinkCollector(new String[] { rel }, firstOnly));
+	}
+
+	/**
+	 * Collects the links from the given representation.
+	 * 
+	 * @return the links found or {@literal null} in case the representation could not be parsed.
+	 */
+	private static List<Link> collect(String representation, LinkCollector collector) {
+
+		try {
+			return collector.collect(FACTORY.createParser(representation));
+		} catch (IOException o_O) {
+			return null;
+		}
+	}
+
+	/**
+	 * Collects the links from the given representation. Only reads the given {@link InputStream} up to the point the
+	 * links were found and leaves it open.
+	 * 
+	 * @return the links found or {@literal null} in case the representation could not be parsed.
+	 */
+	private static List<Link> collect(InputStream representation, LinkCollector collector) {
+
+		try {
+
+			JsonParser parser = FACTORY.createParser(representation);
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+			return collector.collect(parser);
+
+		} catch (IOException o_O) {
+			return null;
+		}
+	}
+
+	private static boolean isContainer(JsonToken token) {
+		return token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+	}
+
+	/**
+	 * Collects the links with a set of relation types (or all links) from the {@code _links} object of a document read
+	 * through a {@link JsonParser}. Mimics the {@code $._links..['rel']..href} JsonPath expression, i.e. all
+	 * {@code href} values nested somewhere below a field named after one of the relation types are collected.
+	 *
+	 * @author agent
+	 */
+	private static class LinkCollector {
+
+		private final Set<String> rels;
+		private final boolean firstOnly;
+		private final List<Link> links;
+
+		/**
+		 * Creates a new {@link LinkCollector} for the given relation types.
+		 * 
+		 * @param rels the relation types to collect links for, all links will be collected if none given.
+		 * @param firstOnly whether to stop after the first link found.
+		 */
+		public LinkCollector(String[] rels, boolean firstOnly) {
+
+			Assert.notNull(rels, "Relation types must not be null!");
+
+			this.rels = rels.length == 0 ? null : new HashSet<String>(Arrays.asList(rels));
+			this.firstOnly = firstOnly;
+			this.links = new ArrayList<Link>(firstOnly ? 1 : 4);
+		}
+
+		/**
+		 * Collects the links from the document the given {@link JsonParser} points to and closes the parser.
+		 *
+		 * @param parser must not be {@literal null}.
+		 * @return the links found.
+		 * @throws IOException in case the document cannot be parsed.
+		 */
+		public List<Link> collect(JsonParser parser) throws IOException {
+
+			try {
+
+				if (parser.nextToken() != JsonToken.START_OBJECT) {
+					return Collections.emptyList();
+				}
+
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+					String name = parser.getCurrentName();
+					JsonToken token = parser.nextToken();
+
+					if (LINKS.equals(name) && isContainer(token)) {
+						scan(parser);
+						break;
+					}
+
+					parser.skipChildren();
+				}
+
+				return Collections.unmodifiableList(links);
+
+			} finally {
+				parser.close();
+			}
+		}
+
+		/**
+		 * Scans the object or array the given {@link JsonParser} currently points to for fields named after one of the
+		 * relation types and collects the links contained in them.
+		 *
+		 * @return whether the scan can be stopped.
+		 */
+		private boolean scan(JsonParser parser) throws IOException {
+
+			if (parser.getCurrentToken() == JsonToken.START_ARRAY) {
+
+				for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser
+						.nextToken()) {
+
+					if (isContainer(token) && scan(parser)) {
+						return true;
+					}
+				}
+
+				return false;
+			}
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String name = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+
+				if (!isContainer(token)) {
+					continue;
+				}
+
+				boolean matches = rels == null || rels.contains(name);
+
+				if (matches ? collectHrefs(parser, name) : scan(parser)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/**
+		 * Collects all {@code href} values found in the object or array the given {@link JsonParser} currently points to
+		 * as {@link Link}s with the given rel.
+		 *
+		 * @return whether the scan can be stopped.
+		 */
+		private boolean collectHrefs(JsonParser parser, String rel) throws IOException {
+
+			boolean array = parser.getCurrentToken() == JsonToken.START_ARRAY;
+
+			for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY
+					&& token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+
+				if (!array) {
+					token = parser.nextToken();
+				}
+
+				if (isContainer(token)) {
+
+					if (collectHrefs(parser, rel)) {
+						return true;
+					}
+
+				} else if (!array && HREF.equals(parser.getCurrentName()) && token != JsonToken.VALUE_NULL) {
+
+					links.add(new Link(parser.getText(), rel));
+
+					if (firstOnly) {
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * {@link InputStream} recording the bytes read from the wrapped {@link InputStream} so that the representation can
+	 * be handed to the fallback in case the streaming parser fails to read it. Only the bytes actually read by the
+	 * parser are recorded, i.e. the ones up to the end of the {@code _links} object plus the parser's read-ahead or the
+	 * entire document if it doesn't contain one.
+	 *
+	 * @author agent
+	 */
+	private static class RecordingInputStream extends FilterInputStream {
+
+		private final ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+
+		/**
+		 * Creates a new {@link RecordingInputStream} for the given {@link InputStream}.
+		 * 
+		 * @param delegate must not be {@literal null}.
+		 */
+		public RecordingInputStream(InputStream delegate) {
+
+			super(delegate);
+
+			Assert.notNull(delegate, "InputStream must not be null!");
+		}
+
+		/**
+		 * Returns an {@link InputStream} containing the bytes read so far followed by the ones not read yet.
+		 * 
+		 * @return
+		 */
+		public InputStream replay() {
+			return new SequenceInputStream(new ByteArrayInputStream(recorded.toByteArray()), in);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			int result = super.read();
+
+			if (result != -1) {
+				recorded.write(result);
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+
+			int result = super.read(buffer, offset, length);
+
+			if (result > 0) {
+				recorded.write(buffer, offset, result);
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#skip(long)
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+
+			if (n <= 0) {
+				return 0;
+			}
+
+			byte[] buffer = new byte[(int) Math.min(n, 4096)];
+			int read = read(buffer, 0, buffer.length);
+
+			return read < 0 ? 0 : read;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#markSupported()
+		 */
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
 }
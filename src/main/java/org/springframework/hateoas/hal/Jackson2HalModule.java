@@ -18,12 +18,16 @@ package org.springframework.hateoas.hal;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.hateoas.Link;
@@ -33,6 +37,7 @@ import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -52,6 +57,7 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
@@ -65,9 +71,9 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
-import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap.SerializerAndMapResult;
 import com.fasterxml.jackson.databind.ser.std.NonTypedScalarSerializerBase;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
  * Jackson 2 module implementation to render {@link Link} and {@link ResourceSupport} instances in HAL compatible JSON.
@@ -108,18 +114,27 @@ public class Jackson2HalModule extends SimpleModule {
 	 */
 	public static class HalLinkListSerializer extends ContainerSerializer<List<Link>> implements ContextualSerializer {
 
+		private static final String CURIES_REL = "curies";
+		private static final int MAX_LINKS_TO_GROUP_IN_PLACE = 32;
+
 		private final BeanProperty property;
 		private final CurieProvider curieProvider;
+		private PropertySerializerMap serializers;
 
 		public HalLinkListSerializer(CurieProvider curieProvider) {
 			this(null, curieProvider);
 		}
 
 		public HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider) {
+			this(property, curieProvider, PropertySerializerMap.emptyMap());
+		}
+
+		private HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, PropertySerializerMap serializers) {
 
 			super(List.class, false);
 			this.property = property;
 			this.curieProvider = curieProvider;
+			this.serializers = serializers;
 		}
 
 		/*
@@ -130,46 +145,188 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(List<Link> value, JsonGenerator jgen, SerializerProvider provider) throws IOException,
 				JsonGenerationException {
 
-			// sort links according to their relation
-			Map<String, List<Object>> sortedLinks = new LinkedHashMap<String, List<Object>>();
-			List<Link> links = new ArrayList<Link>();
-
 			boolean prefixingRequired = curieProvider != null;
 			boolean curiedLinkPresent = false;
+			boolean groupInPlace = value.size() <= MAX_LINKS_TO_GROUP_IN_PLACE
+					&& !provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+			String[] rels = new String[value.size()];
 
-			for (Link link : value) {
+			for (int i = 0; i < rels.length; i++) {
 
+				Link link = value.get(i);
 				String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
 
 				if (!link.getRel().equals(rel)) {
 					curiedLinkPresent = true;
 				}
 
-				if (sortedLinks.get(rel) == null) {
-					sortedLinks.put(rel, new ArrayList<Object>());
+				if (CURIES_REL.equals(rel)) {
+					groupInPlace = false;
 				}
 
-				links.add(link);
-				sortedLinks.get(rel).add(link);
+				rels[i] = rel;
 			}
 
-			if (prefixingRequired && curiedLinkPresent) {
+			Object curies = prefixingRequired && curiedLinkPresent ? curieProvider.getCurieInformation(new Links(value))
+					: null;
 
-				ArrayList<Object> curies = new ArrayList<Object>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
+			jgen.writeStartObject();
+
+			if (groupInPlace) {
+
+				writeGroupedInPlace(value, rels, jgen, provider);
+
+				if (curies != null) {
+					writeCuries(curies, jgen, provider);
+				}
 
-				sortedLinks.put("curies", curies);
+			} else {
+				writeGroupedByMap(value, rels, curies, jgen, provider);
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.uncheckedSimpleType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Writes the given links grouped by the given rels in the order of their first appearance, looking up the links
+		 * with the same rel by scanning the remaining ones. Avoids any intermediate data structure for the small number
+		 * of links usually contained in a representation.
+		 * 
+		 * @param links must not be {@literal null}.
+		 * @param rels must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeGroupedInPlace(List<Link> links, String[] rels, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			for (int i = 0; i < rels.length; i++) {
+
+				if (isPreviouslyUsed(rels, i)) {
+					continue;
+				}
+
+				int count = 1;
 
-			MapSerializer serializer = MapSerializer.construct(new String[] {}, mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property), null);
+				for (int j = i + 1; j < rels.length; j++) {
+					if (rels[i].equals(rels[j])) {
+						count++;
+					}
+				}
+
+				jgen.writeFieldName(rels[i]);
+
+				if (count == 1) {
+					write(links.get(i), jgen, provider);
+					continue;
+				}
+
+				jgen.writeStartArray();
+
+				for (int j = i; j < rels.length; j++) {
+					if (rels[i].equals(rels[j])) {
+						write(links.get(j), jgen, provider);
+					}
+				}
 
-			serializer.serialize(sortedLinks, jgen, provider);
+				jgen.writeEndArray();
+			}
+		}
+
+		/**
+		 * Writes the given links grouped by the given rels using a {@link Map}, either in the order of the first appearance
+		 * of a rel or, if {@link SerializationFeature#ORDER_MAP_ENTRIES_BY_KEYS} is enabled, ordered by rel. The given
+		 * curies take the place of the {@value #CURIES_REL} rel, which is added last if not already present.
+		 * 
+		 * @param links must not be {@literal null}.
+		 * @param rels must not be {@literal null}.
+		 * @param curies the curies to write instead of the links with a {@value #CURIES_REL} rel, can be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeGroupedByMap(List<Link> links, String[] rels, Object curies, JsonGenerator jgen,
+				SerializerProvider provider) throws IOException {
+
+			boolean ordered = provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+			Map<String, List<Link>> groups = ordered ? new TreeMap<String, List<Link>>()
+					: new LinkedHashMap<String, List<Link>>();
+
+			for (int i = 0; i < rels.length; i++) {
+
+				List<Link> group = groups.get(rels[i]);
+
+				if (group == null) {
+					group = new ArrayList<Link>();
+					groups.put(rels[i], group);
+				}
+
+				group.add(links.get(i));
+			}
+
+			if (curies != null && !groups.containsKey(CURIES_REL)) {
+				groups.put(CURIES_REL, Collections.<Link> emptyList());
+			}
+
+			for (Entry<String, List<Link>> entry : groups.entrySet()) {
+
+				if (curies != null && CURIES_REL.equals(entry.getKey())) {
+					writeCuries(curies, jgen, provider);
+					continue;
+				}
+
+				List<Link> group = entry.getValue();
+
+				jgen.writeFieldName(entry.getKey());
+
+				if (group.size() == 1) {
+					write(group.get(0), jgen, provider);
+					continue;
+				}
+
+				jgen.writeStartArray();
+
+				for (Link link : group) {
+					write(link, jgen, provider);
+				}
+
+				jgen.writeEndArray();
+			}
+		}
+
+		private void writeCuries(Object curies, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			jgen.writeFieldName(CURIES_REL);
+			write(curies, jgen, provider);
+		}
+
+		private static boolean isPreviouslyUsed(String[] rels, int index) {
+
+			for (int i = 0; i < index; i++) {
+				if (rels[i].equals(rels[index])) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private void write(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			Class<?> type = value.getClass();
+			JsonSerializer<Object> serializer = serializers.serializerFor(type);
+
+			if (serializer == null) {
+
+				SerializerAndMapResult result = serializers.findAndAddSecondarySerializer(type, provider, property);
+
+				this.serializers = result.map;
+				serializer = result.serializer;
+			}
+
+			serializer.serialize(value, jgen, provider);
 		}
 
 		/*
@@ -179,7 +336,11 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new HalLinkListSerializer(property, curieProvider);
+
+			PropertySerializerMap serializers = PropertySerializerMap.emptyMap();
+			serializers = serializers.newWith(Link.class, provider.findValueSerializer(Link.class, property));
+
+			return new HalLinkListSerializer(property, curieProvider, serializers);
 		}
 
 		/*
@@ -273,7 +434,43 @@ public class Jackson2HalModule extends SimpleModule {
 				builder.add(resource);
 			}
 
-			provider.findValueSerializer(Map.class, property).serialize(builder.asMap(), jgen, provider);
+			Map<String, Object> embeddeds = builder.asMap();
+
+			if (provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+				embeddeds = new TreeMap<String, Object>(embeddeds);
+			}
+
+			ValueWriter writer = new ValueWriter(provider, property);
+
+			jgen.writeStartObject();
+
+			for (Entry<String, Object> entry : embeddeds.entrySet()) {
+
+				jgen.writeFieldName(entry.getKey());
+				Object embedded = entry.getValue();
+
+				if (!(embedded instanceof Collection)) {
+					writer.write(embedded, jgen);
+					continue;
+				}
+
+				Collection<?> elements = (Collection<?>) embedded;
+
+				if (elements.size() == 1 && provider.isEnabled(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)) {
+					writer.write(elements.iterator().next(), jgen);
+					continue;
+				}
+
+				jgen.writeStartArray();
+
+				for (Object element : elements) {
+					writer.write(element, jgen);
+				}
+
+				jgen.writeEndArray();
+			}
+
+			jgen.writeEndObject();
 		}
 
 		@Override
@@ -306,6 +503,42 @@ public class Jackson2HalModule extends SimpleModule {
 		protected ContainerSerializer<?> _withValueTypeSerializer(TypeSerializer vts) {
 			return null;
 		}
+
+		/**
+		 * Writes the embedded values to a {@link JsonGenerator} directly, looking up the {@link JsonSerializer} only if the
+		 * type of the value differs from the previous one as all elements usually share the same type.
+		 * 
+		 * @author agent
+		 */
+		private static class ValueWriter {
+
+			private final SerializerProvider provider;
+			private final BeanProperty property;
+
+			private Class<?> type;
+			private JsonSerializer<Object> serializer;
+
+			public ValueWriter(SerializerProvider provider, BeanProperty property) {
+
+				this.provider = provider;
+				this.property = property;
+			}
+
+			public void write(Object value, JsonGenerator jgen) throws IOException {
+
+				if (value == null) {
+					provider.defaultSerializeNull(jgen);
+					return;
+				}
+
+				if (value.getClass() != type) {
+					this.type = value.getClass();
+					this.serializer = provider.findValueSerializer(type, property);
+				}
+
+				serializer.serialize(value, jgen, provider);
+			}
+		}
 	}
 
 	/**
@@ -447,10 +680,19 @@ public class Jackson2HalModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Deserializer for the HAL {@code _links} object. Reads the link objects token by token and creates a single
+	 * {@link Link} per link object instead of binding it to an intermediate {@link Link} first.
+	 *
+	 * @author agent
+	 */
 	public static class HalLinkListDeserializer extends ContainerDeserializerBase<List<Link>> {
 
 		private static final long serialVersionUID = 6420432361123210955L;
 
+		private static final String HREF = "href";
+		private static final Collection<Object> KNOWN_PROPERTIES = Arrays.<Object> asList(HREF, "rel", "templated");
+
 		@SuppressWarnings("deprecation")
 		public HalLinkListDeserializer() {
 			super(List.class);
@@ -474,6 +716,15 @@ public class Jackson2HalModule extends SimpleModule {
 			return null;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#getKnownPropertyNames()
+		 */
+		@Override
+		public Collection<Object> getKnownPropertyNames() {
+			return KNOWN_PROPERTIES;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
@@ -484,7 +735,6 @@ public class Jackson2HalModule extends SimpleModule {
 
 			List<Link> result = new ArrayList<Link>();
 			String relation;
-			Link link;
 
 			// links is an object, so we parse till we find its end.
 			while (!JsonToken.END_OBJECT.equals(jp.nextToken())) {
@@ -497,17 +747,64 @@ public class Jackson2HalModule extends SimpleModule {
 
 				if (JsonToken.START_ARRAY.equals(jp.nextToken())) {
 					while (!JsonToken.END_ARRAY.equals(jp.nextToken())) {
-						link = jp.readValueAs(Link.class);
-						result.add(new Link(link.getHref(), relation));
+						addLink(result, relation, jp, ctxt);
 					}
 				} else {
-					link = jp.readValueAs(Link.class);
-					result.add(new Link(link.getHref(), relation));
+					addLink(result, relation, jp, ctxt);
 				}
 			}
 
 			return result;
 		}
+
+		/**
+		 * Reads the link object the given {@link JsonParser} currently points to and adds a {@link Link} with the given
+		 * relation to the given {@link List}. Only the {@code href} is considered, plain strings are used as {@code href}
+		 * directly. Unknown properties are handled according to the configuration of the given
+		 * {@link DeserializationContext}, {@literal null} values are skipped.
+		 */
+		private void addLink(List<Link> links, String relation, JsonParser jp, DeserializationContext ctxt)
+				throws IOException {
+
+			JsonToken token = jp.getCurrentToken();
+
+			if (JsonToken.VALUE_NULL.equals(token)) {
+				return;
+			}
+
+			// plain string values are considered the href
+			if (JsonToken.VALUE_STRING.equals(token)) {
+				links.add(new Link(jp.getText(), relation));
+				return;
+			}
+
+			if (!JsonToken.START_OBJECT.equals(token)) {
+				throw ctxt.mappingException(Link.class, token);
+			}
+
+			String href = null;
+
+			while (JsonToken.FIELD_NAME.equals(jp.nextToken())) {
+
+				String name = jp.getCurrentName();
+				jp.nextToken();
+
+				if (HREF.equals(name)) {
+					href = jp.getValueAsString();
+				} else if (KNOWN_PROPERTIES.contains(name)) {
+					jp.skipChildren();
+				} else if (!ctxt.handleUnknownProperty(jp, this, Link.class, name)) {
+					ctxt.reportUnknownProperty(Link.class, name, this);
+					jp.skipChildren();
+				}
+			}
+
+			if (!StringUtils.hasText(href)) {
+				throw ctxt.mappingException(String.format("Expected an href for link with relation '%s'!", relation));
+			}
+
+			links.add(new Link(href, relation));
+		}
 	}
 
 	public static class HalResourcesDeserializer extends ContainerDeserializerBase<List<Object>> implements
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2013 the original author or authors.
+ * Copyright 2012-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,11 @@
 package org.springframework.hateoas.mvc;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
@@ -27,6 +30,7 @@ import org.springframework.hateoas.core.AnnotationAttribute;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriTemplate;
 
@@ -38,6 +42,7 @@ import org.springframework.web.util.UriTemplate;
 class AnnotatedParametersParameterAccessor {
 
 	private final AnnotationAttribute attribute;
+	private final Map<Method, List<AnnotatedParameter>> annotatedParameters;
 
 	/**
 	 * Creates a new {@link AnnotatedParametersParameterAccessor} using the given {@link AnnotationAttribute}.
@@ -47,7 +52,9 @@ class AnnotatedParametersParameterAccessor {
 	public AnnotatedParametersParameterAccessor(AnnotationAttribute attribute) {
 
 		Assert.notNull(attribute);
+
 		this.attribute = attribute;
+		this.annotatedParameters = new ConcurrentReferenceHashMap<Method, List<AnnotatedParameter>>();
 	}
 
 	/**
@@ -60,23 +67,50 @@ class AnnotatedParametersParameterAccessor {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
 		Object[] arguments = invocation.getArguments();
 		List<BoundMethodParameter> result = new ArrayList<BoundMethodParameter>();
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+		for (AnnotatedParameter parameter : getAnnotatedParameters(invocation.getMethod())) {
 
-			Object value = arguments[parameter.getParameterIndex()];
-			Object verifiedValue = verifyParameterValue(parameter, value);
+			Object value = arguments[parameter.getParameter().getParameterIndex()];
+			Object verifiedValue = verifyParameterValue(parameter.getParameter(), value);
 
 			if (verifiedValue != null) {
-				result.add(new BoundMethodParameter(parameter, value, attribute));
+				result.add(new BoundMethodParameter(parameter, value));
 			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Returns the {@link AnnotatedParameter}s for the given {@link Method}. The lookup result is cached as neither the
+	 * annotations nor the parameter types change at runtime.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private List<AnnotatedParameter> getAnnotatedParameters(Method method) {
+
+		List<AnnotatedParameter> result = annotatedParameters.get(method);
+
+		if (result != null) {
+			return result;
+		}
+
+		MethodParameters parameters = new MethodParameters(method);
+		result = new ArrayList<AnnotatedParameter>();
+
+		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+			result.add(new AnnotatedParameter(parameter, attribute));
+		}
+
+		result = Collections.unmodifiableList(result);
+		annotatedParameters.put(method, result);
+
+		return result;
+	}
+
 	/**
 	 * Callback to verifiy the parameter values given for a dummy invocation. Default implementation rejects
 	 * {@literal null} values as they indicate an invalid dummy call.
@@ -100,6 +134,80 @@ class AnnotatedParametersParameterAccessor {
 		return value;
 	}
 
+	/**
+	 * A {@link MethodParameter} carrying the annotation with the invocation independent information precomputed, i.e. the
+	 * name of the template variable to be bound and the {@link TypeDescriptor} to convert values with.
+	 * 
+	 * @author agent
+	 */
+	static class AnnotatedParameter {
+
+		private final MethodParameter parameter;
+		private final String variableName;
+		private final TypeDescriptor typeDescriptor;
+
+		/**
+		 * Creates a new {@link AnnotatedParameter} for the given {@link MethodParameter} and {@link AnnotationAttribute}.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 */
+		public AnnotatedParameter(MethodParameter parameter, AnnotationAttribute attribute) {
+
+			Assert.notNull(parameter, "MethodParameter must not be null!");
+
+			this.parameter = parameter;
+			this.variableName = getVariableName(parameter, attribute);
+			this.typeDescriptor = TypeDescriptor.nested(parameter, 0);
+		}
+
+		/**
+		 * Returns the underlying {@link MethodParameter}.
+		 * 
+		 * @return
+		 */
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		/**
+		 * Returns the name of the {@link UriTemplate} variable to be bound.
+		 * 
+		 * @return
+		 */
+		public String getVariableName() {
+			return variableName;
+		}
+
+		/**
+		 * Returns the {@link TypeDescriptor} of the {@link MethodParameter}.
+		 * 
+		 * @return
+		 */
+		public TypeDescriptor getTypeDescriptor() {
+			return typeDescriptor;
+		}
+
+		/**
+		 * Returns the name of the {@link UriTemplate} variable to be bound. The name will be derived from the given
+		 * {@link AnnotationAttribute} or the {@link MethodParameter} name as fallback.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param attribute can be {@literal null}.
+		 * @return
+		 */
+		static String getVariableName(MethodParameter parameter, AnnotationAttribute attribute) {
+
+			if (attribute == null) {
+				return parameter.getParameterName();
+			}
+
+			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
+			String annotationAttributeValue = attribute.getValueFrom(annotation);
+			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+		}
+	}
+
 	/**
 	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
 	 * 
@@ -114,6 +222,7 @@ class AnnotatedParametersParameterAccessor {
 		private final Object value;
 		private final AnnotationAttribute attribute;
 		private final TypeDescriptor parameterTypeDecsriptor;
+		private String variableName;
 
 		/**
 		 * Creates a new {@link BoundMethodParameter}
@@ -132,6 +241,24 @@ class AnnotatedParametersParameterAccessor {
 			this.parameterTypeDecsriptor = TypeDescriptor.nested(parameter, 0);
 		}
 
+		/**
+		 * Creates a new {@link BoundMethodParameter} for the given {@link AnnotatedParameter} reusing the information
+		 * precomputed in it.
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param value
+		 */
+		BoundMethodParameter(AnnotatedParameter parameter, Object value) {
+
+			Assert.notNull(parameter, "AnnotatedParameter must not be null!");
+
+			this.parameter = parameter.getParameter();
+			this.value = value;
+			this.attribute = null;
+			this.parameterTypeDecsriptor = parameter.getTypeDescriptor();
+			this.variableName = parameter.getVariableName();
+		}
+
 		/**
 		 * Returns the name of the {@link UriTemplate} variable to be bound. The name will be derived from the configured
 		 * {@link AnnotationAttribute} or the {@link MethodParameter} name as fallback.
@@ -140,13 +267,11 @@ class AnnotatedParametersParameterAccessor {
 		 */
 		public String getVariableName() {
 
-			if (attribute == null) {
-				return parameter.getParameterName();
+			if (variableName == null) {
+				this.variableName = AnnotatedParameter.getVariableName(parameter, attribute);
 			}
 
-			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
-			String annotationAttributeValue = attribute.getValueFrom(annotation);
-			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+			return variableName;
 		}
 
 		/**
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Value object to capture the base URI links are built from, i.e. scheme, host, port and the path of the servlet
+ * mapping after potentially available {@code Forwarded} and {@code X-Forwarded-…} headers have been applied. Can be
+ * cached on the request so that it only has to be resolved once per request.
+ *
+ * @author agent
+ * @see BaseUriCachingFilter
+ */
+final class BaseUri {
+
+	static final String ATTRIBUTE_NAME = BaseUri.class.getName();
+
+	private final String scheme;
+	private final String host;
+	private final int port;
+	private final String path;
+
+	/**
+	 * Creates a new {@link BaseUri} from the given {@link UriComponents}.
+	 *
+	 * @param components must not be {@literal null}.
+	 */
+	BaseUri(UriComponents components) {
+
+		Assert.notNull(components, "UriComponents must not be null!");
+
+		this.scheme = components.getScheme();
+		this.host = components.getHost();
+		this.port = components.getPort();
+		this.path = components.getPath();
+	}
+
+	/**
+	 * Resolves the {@link BaseUri} for the given {@link HttpServletRequest} and caches it as request attribute so that
+	 * subsequent calls to {@link #getCached(HttpServletRequest)} will return it.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	static BaseUri cache(HttpServletRequest request) {
+
+		Assert.notNull(request, "Request must not be null!");
+
+		BaseUri baseUri = new BaseUri(ControllerLinkBuilder.getBuilder(request).build());
+		request.setAttribute(ATTRIBUTE_NAME, baseUri);
+
+		return baseUri;
+	}
+
+	/**
+	 * Returns the {@link BaseUri} cached for the given {@link HttpServletRequest} or {@literal null} if none was cached.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	static BaseUri getCached(HttpServletRequest request) {
+
+		Object attribute = request.getAttribute(ATTRIBUTE_NAME);
+		return attribute instanceof BaseUri ? (BaseUri) attribute : null;
+	}
+
+	public String getScheme() {
+		return scheme;
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns a new {@link UriComponentsBuilder} initialized with the base URI.
+	 *
+	 * @return
+	 */
+	public UriComponentsBuilder toBuilder() {
+		return UriComponentsBuilder.newInstance().scheme(scheme).host(host).port(port).path(path);
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter to resolve the base URI {@link ControllerLinkBuilder} builds links from once per request. Without the
+ * filter being registered, the servlet mapping as well as the {@code Forwarded} and {@code X-Forwarded-…} headers are
+ * inspected for every link built. With the filter in place they're inspected once and the result is reused for all
+ * links built while processing the request. Note, that request headers changed by components invoked after the filter
+ * will not be considered anymore.
+ *
+ * @author agent
+ * @since 0.18
+ */
+public class BaseUriCachingFilter extends OncePerRequestFilter {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.filter.OncePerRequestFilter#doFilterInternal(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, javax.servlet.FilterChain)
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		BaseUri.cache(request);
+		filterChain.doFilter(request, response);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2014 the original author or authors.
+ * Copyright 2012-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,7 @@ import org.springframework.web.util.UriTemplate;
  * 
  * @author Oliver Gierke
  * @author Kamill Sokol
+ * @author agent
  */
 public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuilder> {
 
@@ -57,6 +58,15 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		super(builder);
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} for the given already encoded and normalized URI.
+	 * 
+	 * @param uri must not be {@literal null} or empty.
+	 */
+	ControllerLinkBuilder(String uri) {
+		super(uri);
+	}
+
 	/**
 	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class.
 	 * 
@@ -136,6 +146,46 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the given controller method considered to be invoked with the
+	 * given arguments. Other than {@link #linkTo(Method, Object...)} the arguments are bound to the method parameters
+	 * the same way as with {@link #linkTo(Object)} but without the need to record the invocation on a proxy created
+	 * through {@link #methodOn(Class, Object...)}. Useful to avoid the proxy creation in case the {@link Method} is
+	 * resolved upfront, e.g. for links created for every element of a large collection.
+	 * 
+	 * <pre>
+	 * private static final Method SHOW_ADDRESSES = ReflectionUtils.findMethod(CustomerController.class, "showAddresses", Long.class);
+	 * 
+	 * Link link = linkToMethod(SHOW_ADDRESSES, 2L).withRel("addresses");
+	 * </pre>
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param arguments the arguments to bind, must match the method's parameters.
+	 * @return
+	 * @see DummyInvocationUtils#invocationOf(Class, Method, Object...)
+	 * @since 0.18
+	 */
+	public static ControllerLinkBuilder linkToMethod(Method method, Object... arguments) {
+
+		Assert.notNull(method, "Method must not be null!");
+		return linkToMethod(method.getDeclaringClass(), method, arguments);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the given controller method considered to be invoked on an
+	 * instance of the given controller type with the given arguments.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param arguments the arguments to bind, must match the method's parameters.
+	 * @return
+	 * @see #linkToMethod(Method, Object...)
+	 * @since 0.18
+	 */
+	public static ControllerLinkBuilder linkToMethod(Class<?> controller, Method method, Object... arguments) {
+		return FACTORY.linkTo(DummyInvocationUtils.invocationOf(controller, method, arguments));
+	}
+
 	/**
 	 * Wrapper for {@link DummyInvocationUtils#methodOn(Class, Object...)} to be available in case you work with static
 	 * imports of {@link ControllerLinkBuilder}.
@@ -166,6 +216,15 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return new ControllerLinkBuilder(builder);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(java.lang.String)
+	 */
+	@Override
+	protected ControllerLinkBuilder createNewInstance(String uri) {
+		return new ControllerLinkBuilder(uri);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 * 
@@ -178,16 +237,46 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with the host tweaked in case the
 	 * request contains an {@code X-Forwarded-Host} header and the scheme tweaked in case the request contains an
-	 * {@code X-Forwarded-Ssl} header
+	 * {@code X-Forwarded-Ssl} header. Uses the base URI cached for the current request if available.
 	 * 
 	 * @return
+	 * @see BaseUriCachingFilter
 	 */
 	static UriComponentsBuilder getBuilder() {
 
 		HttpServletRequest request = getCurrentRequest();
+		BaseUri baseUri = BaseUri.getCached(request);
+
+		return baseUri == null ? getBuilder(request) : baseUri.toBuilder();
+	}
+
+	/**
+	 * Returns the {@link BaseUri} for the current request. Uses the base URI cached for the current request if
+	 * available.
+	 * 
+	 * @return
+	 * @see BaseUriCachingFilter
+	 */
+	static BaseUri getBaseUri() {
+
+		HttpServletRequest request = getCurrentRequest();
+		BaseUri baseUri = BaseUri.getCached(request);
+
+		return baseUri == null ? new BaseUri(getBuilder(request).build()) : baseUri;
+	}
+
+	/**
+	 * Returns a {@link UriComponentsBuilder} obtained from the servlet mapping of the given {@link HttpServletRequest}
+	 * with the host and scheme tweaked according to the {@code Forwarded} and {@code X-Forwarded-…} headers.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	static UriComponentsBuilder getBuilder(HttpServletRequest request) {
+
 		ServletUriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
 
-		ForwardedHeader forwarded = ForwardedHeader.of(request.getHeader(ForwardedHeader.NAME));
+		ForwardedHeader forwarded = ForwardedHeader.forRequest(request);
 		String proto = hasText(forwarded.getProto()) ? forwarded.getProto() : request.getHeader("X-Forwarded-Proto");
 		String forwardedSsl = request.getHeader("X-Forwarded-Ssl");
 
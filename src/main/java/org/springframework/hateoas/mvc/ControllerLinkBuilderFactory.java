@@ -17,7 +17,6 @@ package org.springframework.hateoas.mvc;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,22 +28,22 @@ import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MethodLinkBuilderFactory;
 import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.LinkTemplate;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.util.UriTemplate;
 
 /**
  * Factory for {@link LinkBuilderSupport} instances based on the request mapping annotated on the given controller.
@@ -58,13 +57,25 @@ import org.springframework.web.util.UriTemplate;
  */
 public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<ControllerLinkBuilder> {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
 	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
 			new AnnotationAttribute(PathVariable.class));
 	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
+	private static final String TEMPLATE_MARKER = "~link-template-variable~";
 
+	private final Map<Method, List<ContributorBinding>> contributorBindings = new ConcurrentReferenceHashMap<Method, List<ContributorBinding>>();
+	private final boolean customizesUriComponents;
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<UriComponentsContributor>();
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilderFactory}.
+	 */
+	public ControllerLinkBuilderFactory() {
+
+		Method method = ReflectionUtils.findMethod(getClass(), "applyUriComponentsContributer", UriComponentsBuilder.class,
+				MethodInvocation.class);
+		this.customizesUriComponents = !ControllerLinkBuilderFactory.class.equals(method.getDeclaringClass());
+	}
+
 	/**
 	 * Configures the {@link UriComponentsContributor} to be used when building {@link Link} instances from method
 	 * invocations.
@@ -74,6 +85,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.contributorBindings.clear();
 	}
 
 	/*
@@ -109,21 +121,58 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	@Override
 	public ControllerLinkBuilder linkTo(Object invocationValue) {
+		return linkTo(invocationValue, null);
+	}
+
+	/**
+	 * Returns a {@link LinkTemplate} for the controller method invocation leaving the given path variable unexpanded.
+	 * Resolves the link once, so that links for a lot of values of the variable can be created by simple concatenation:
+	 * 
+	 * <pre>
+	 * LinkTemplate template = factory.linkTemplateTo(methodOn(CustomerController.class).showAddresses(0L), "id");
+	 * List&lt;Link&gt; links = template.expand(ids, "addresses");
+	 * </pre>
+	 * 
+	 * The value handed into the invocation for the given variable is ignored. The template is bound to the current
+	 * request, so it must not be cached beyond it.
+	 * 
+	 * @param invocationValue must not be {@literal null}.
+	 * @param variable the name of the path variable to be left unexpanded, must not be {@literal null} or empty.
+	 * @return
+	 */
+	public LinkTemplate linkTemplateTo(Object invocationValue, String variable) {
+
+		Assert.hasText(variable, "Variable must not be null or empty!");
+
+		String uri = linkTo(invocationValue, variable).toString();
+		int index = uri.indexOf(TEMPLATE_MARKER);
+
+		Assert.isTrue(index != -1 && uri.indexOf(TEMPLATE_MARKER, index + 1) == -1,
+				String.format("Variable %s must be used exactly once in the mapping!", variable));
+
+		return new LinkTemplate(uri.substring(0, index), uri.substring(index + TEMPLATE_MARKER.length()));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} for the given invocation value, replacing the value of the given variable
+	 * with a marker if given.
+	 * 
+	 * @param invocationValue must not be {@literal null}.
+	 * @param variable can be {@literal null}.
+	 * @return
+	 */
+	private ControllerLinkBuilder linkTo(Object invocationValue, String variable) {
 
 		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
 		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
 
 		MethodInvocation invocation = invocations.getLastInvocation();
 		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
-
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
 
-		UriTemplate template = new UriTemplate(mapping);
+		ControllerLinkPlan plan = ControllerLinkPlan.of(invocation.getTargetType(), invocation.getMethod());
 		Map<String, Object> values = new HashMap<String, Object>();
 
-		Iterator<String> names = template.getVariableNames().iterator();
+		Iterator<String> names = plan.getVariableNames().iterator();
 		while (classMappingParameters.hasNext()) {
 			values.put(names.next(), classMappingParameters.next());
 		}
@@ -132,8 +181,34 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			values.put(parameter.getVariableName(), parameter.asString());
 		}
 
+		if (variable != null) {
+
+			Assert.isTrue(values.containsKey(variable), String.format("Unknown path variable %s!", variable));
+			values.put(variable, TEMPLATE_MARKER);
+		}
+
+		MultiValueMap<String, String> requestParameters = new LinkedMultiValueMap<String, String>();
+
 		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
-			bindRequestParameters(builder, parameter);
+			bindRequestParameters(requestParameters, parameter);
+		}
+
+		if (canRenderDirectly(plan, invocation)) {
+
+			String uri = DirectLinkRenderer.render(ControllerLinkBuilder.getBaseUri(), plan.getCompiledMapping(), values,
+					requestParameters);
+
+			if (uri != null) {
+				return new ControllerLinkBuilder(uri);
+			}
+		}
+
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(plan.getMapping());
+
+		for (Map.Entry<String, List<String>> entry : requestParameters.entrySet()) {
+			for (String value : entry.getValue()) {
+				builder.queryParam(entry.getKey(), value);
+			}
 		}
 
 		UriComponents components = applyUriComponentsContributer(builder, invocation).buildAndExpand(values);
@@ -158,30 +233,79 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder, MethodInvocation invocation) {
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+		if (uriComponentsContributors.isEmpty()) {
+			return builder;
+		}
+
+		List<ContributorBinding> bindings = getContributorBindings(invocation);
+		Object[] arguments = invocation.getArguments();
+
+		for (ContributorBinding binding : bindings) {
+			binding.getContributor().enhance(builder, binding.getParameter(),
+					arguments[binding.getParameter().getParameterIndex()]);
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Returns the {@link ContributorBinding}s for the method invoked, i.e. the combinations of {@link MethodParameter}s and
+	 * the configured {@link UriComponentsContributor}s supporting them in the order they have to be applied.
+	 * 
+	 * @param invocation must not be {@literal null}.
+	 * @return
+	 */
+	private List<ContributorBinding> getContributorBindings(MethodInvocation invocation) {
+
+		Method method = invocation.getMethod();
+		List<ContributorBinding> bindings = contributorBindings.get(method);
+
+		if (bindings != null) {
+			return bindings;
+		}
+
+		MethodParameters parameters = ControllerLinkPlan.of(invocation.getTargetType(), method).getParameters();
+		bindings = new ArrayList<ContributorBinding>();
 
 		for (MethodParameter parameter : parameters.getParameters()) {
-			Object parameterValue = parameterValues.next();
 			for (UriComponentsContributor contributor : uriComponentsContributors) {
 				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
+					bindings.add(new ContributorBinding(parameter, contributor));
 				}
 			}
 		}
 
-		return builder;
+		bindings = Collections.unmodifiableList(bindings);
+		contributorBindings.put(method, bindings);
+
+		return bindings;
 	}
 
 	/**
-	 * Populates the given {@link UriComponentsBuilder} with request parameters found in the given
-	 * {@link BoundMethodParameter}.
+	 * Returns whether the link for the given {@link MethodInvocation} can be rendered by the {@link DirectLinkRenderer}.
+	 * That's not the case if the mapping couldn't be compiled or {@link UriComponentsContributor}s need to be applied.
 	 * 
-	 * @param builder must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @param invocation must not be {@literal null}.
+	 * @return
+	 */
+	private boolean canRenderDirectly(ControllerLinkPlan plan, MethodInvocation invocation) {
+
+		if (plan.getCompiledMapping() == null || customizesUriComponents) {
+			return false;
+		}
+
+		return uriComponentsContributors.isEmpty() || getContributorBindings(invocation).isEmpty();
+	}
+
+	/**
+	 * Populates the given {@link MultiValueMap} with request parameters found in the given {@link BoundMethodParameter}.
+	 * 
+	 * @param parameters must not be {@literal null}.
 	 * @param parameter must not be {@literal null}.
 	 */
 	@SuppressWarnings("unchecked")
-	private static void bindRequestParameters(UriComponentsBuilder builder, BoundMethodParameter parameter) {
+	private static void bindRequestParameters(MultiValueMap<String, String> parameters, BoundMethodParameter parameter) {
 
 		Object value = parameter.getValue();
 		String key = parameter.getVariableName();
@@ -192,7 +316,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 
 			for (Map.Entry<String, List<String>> multiValueEntry : requestParams.entrySet()) {
 				for (String singleEntryValue : multiValueEntry.getValue()) {
-					builder.queryParam(multiValueEntry.getKey(), singleEntryValue);
+					parameters.add(multiValueEntry.getKey(), singleEntryValue);
 				}
 			}
 
@@ -201,17 +325,42 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			Map<String, String> requestParams = (Map<String, String>) value;
 
 			for (Map.Entry<String, String> requestParamEntry : requestParams.entrySet()) {
-				builder.queryParam(requestParamEntry.getKey(), requestParamEntry.getValue());
+				parameters.add(requestParamEntry.getKey(), requestParamEntry.getValue());
 			}
 
 		} else if (value instanceof Collection) {
 
 			for (Object element : (Collection<?>) value) {
-				builder.queryParam(key, element);
+				parameters.add(key, element == null ? null : element.toString());
 			}
 
 		} else {
-			builder.queryParam(key, parameter.asString());
+			parameters.add(key, parameter.asString());
+		}
+	}
+
+	/**
+	 * A {@link UriComponentsContributor} bound to the {@link MethodParameter} it supports.
+	 * 
+	 * @author agent
+	 */
+	private static class ContributorBinding {
+
+		private final MethodParameter parameter;
+		private final UriComponentsContributor contributor;
+
+		public ContributorBinding(MethodParameter parameter, UriComponentsContributor contributor) {
+
+			this.parameter = parameter;
+			this.contributor = contributor;
+		}
+
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		public UriComponentsContributor getContributor() {
+			return contributor;
 		}
 	}
 
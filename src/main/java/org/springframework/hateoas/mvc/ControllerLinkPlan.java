@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.DirectLinkRenderer.CompiledMapping;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * The invocation independent information needed to build a link to a controller method: the mapping, the names of the
+ * template variables contained in it, the mapping compiled for direct rendering and the {@link MethodParameters} of the
+ * method. Instances are immutable and cached per controller type and method so that the reflective lookups only have to
+ * be done once.
+ *
+ * @author agent
+ */
+final class ControllerLinkPlan {
+
+	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+	private static final Map<CacheKey, ControllerLinkPlan> CACHE = new ConcurrentReferenceHashMap<CacheKey, ControllerLinkPlan>();
+
+	private final String mapping;
+	private final List<String> variableNames;
+	private final CompiledMapping compiledMapping;
+	private final MethodParameters parameters;
+
+	/**
+	 * Creates a new {@link ControllerLinkPlan} for the given controller type and {@link Method}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	private ControllerLinkPlan(Class<?> type, Method method) {
+
+		this.mapping = DISCOVERER.getMapping(type, method);
+		this.variableNames = Collections.unmodifiableList(new UriTemplate(mapping).getVariableNames());
+		this.compiledMapping = CompiledMapping.compile(mapping);
+		this.parameters = new MethodParameters(method);
+	}
+
+	/**
+	 * Returns the {@link ControllerLinkPlan} for the given controller type and {@link Method}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public static ControllerLinkPlan of(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Controller type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		CacheKey key = new CacheKey(type, method);
+		ControllerLinkPlan plan = CACHE.get(key);
+
+		if (plan == null) {
+			plan = new ControllerLinkPlan(type, method);
+			CACHE.put(key, plan);
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Returns the combined type and method level mapping.
+	 *
+	 * @return
+	 */
+	public String getMapping() {
+		return mapping;
+	}
+
+	/**
+	 * Returns the names of the template variables contained in the mapping in the order they appear.
+	 *
+	 * @return
+	 */
+	public List<String> getVariableNames() {
+		return variableNames;
+	}
+
+	/**
+	 * Returns the {@link CompiledMapping} to render the mapping with directly or {@literal null} in case the mapping
+	 * cannot be rendered directly.
+	 *
+	 * @return
+	 */
+	public CompiledMapping getCompiledMapping() {
+		return compiledMapping;
+	}
+
+	/**
+	 * Returns the {@link MethodParameters} of the method.
+	 *
+	 * @return
+	 */
+	public MethodParameters getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Cache key combining the controller type and the method as the latter might be declared in a super type mapped
+	 * differently.
+	 *
+	 * @author agent
+	 */
+	private static final class CacheKey {
+
+		private final Class<?> type;
+		private final Method method;
+
+		public CacheKey(Class<?> type, Method method) {
+
+			this.type = type;
+			this.method = method;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey that = (CacheKey) obj;
+
+			return this.type.equals(that.type) && this.method.equals(that.method);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * ObjectUtils.nullSafeHashCode(type) + ObjectUtils.nullSafeHashCode(method);
+		}
+	}
+}
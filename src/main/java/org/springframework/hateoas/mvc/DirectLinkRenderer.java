@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.springframework.hateoas.core.UriSyntaxUtils.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * Renders links to controller methods by appending the individual parts to a {@link StringBuilder} directly instead of
+ * building {@link UriComponents} and parsing, encoding and normalizing them. Rendering is only attempted if all parts
+ * consist of characters that neither encoding nor normalization would change, so that the result is the same as the
+ * one created through {@link UriComponents}. In all other cases the renderer returns {@literal null} to indicate the
+ * caller has to fall back to the {@link UriComponents} based rendering.
+ *
+ * @author agent
+ */
+final class DirectLinkRenderer {
+
+	private static final int INITIAL_CAPACITY = 128;
+
+	private DirectLinkRenderer() {}
+
+	/**
+	 * Renders the link for the given {@link BaseUri}, {@link CompiledMapping}, variable values and request parameters.
+	 *
+	 * @param base must not be {@literal null}.
+	 * @param mapping must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return the rendered link or {@literal null} in case the link cannot be rendered directly.
+	 */
+	public static String render(BaseUri base, CompiledMapping mapping, Map<String, ?> values,
+			MultiValueMap<String, String> parameters) {
+
+		String scheme = base.getScheme();
+		String host = base.getHost();
+		String basePath = base.getPath();
+
+		if (!isScheme(scheme) || !isUnreserved(host) || basePath != null && !isPathLiteral(basePath)) {
+			return null;
+		}
+
+		StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+		builder.append(scheme).append("://").append(host);
+
+		if (base.getPort() != -1) {
+			builder.append(':').append(base.getPort());
+		}
+
+		int pathStart = builder.length();
+
+		if (basePath != null) {
+			builder.append(basePath);
+		}
+
+		String[] literals = mapping.literals;
+		String[] variables = mapping.variables;
+
+		for (int i = 0; i < variables.length; i++) {
+
+			builder.append(literals[i]);
+
+			if (!values.containsKey(variables[i])) {
+				return null;
+			}
+
+			Object value = values.get(variables[i]);
+			String stringValue = value == null ? null : value.toString();
+
+			if (!isUnreserved(stringValue)) {
+				return null;
+			}
+
+			builder.append(stringValue);
+		}
+
+		builder.append(literals[variables.length]);
+
+		if (builder.length() > pathStart) {
+
+			if (builder.charAt(pathStart) != '/') {
+				builder.insert(pathStart, '/');
+			}
+
+			if (!isNormalizedPath(builder, pathStart)) {
+				return null;
+			}
+		}
+
+		boolean first = true;
+
+		for (Entry<String, List<String>> entry : parameters.entrySet()) {
+
+			String name = entry.getKey();
+
+			if (!isUnreserved(name)) {
+				return null;
+			}
+
+			for (String value : entry.getValue()) {
+
+				if (!isUnreserved(value)) {
+					return null;
+				}
+
+				builder.append(first ? '?' : '&').append(name).append('=').append(value);
+				first = false;
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static boolean isScheme(String source) {
+
+		if (source == null || source.length() == 0) {
+			return false;
+		}
+
+		for (int i = 0; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '+' || c == '-' || c == '.')) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * A request mapping split up into literal parts and template variable names, so that it can be rendered by
+	 * alternately appending literals and variable values. Uses the same variable syntax as Spring's
+	 * {@link org.springframework.web.util.UriTemplate}.
+	 *
+	 * @author agent
+	 */
+	static final class CompiledMapping {
+
+		private final String[] literals;
+		private final String[] variables;
+
+		private CompiledMapping(String[] literals, String[] variables) {
+
+			this.literals = literals;
+			this.variables = variables;
+		}
+
+		/**
+		 * Compiles the given mapping into a {@link CompiledMapping}.
+		 *
+		 * @param mapping must not be {@literal null}.
+		 * @return the {@link CompiledMapping} or {@literal null} in case the mapping's literals contain characters that
+		 *         would have to be encoded.
+		 */
+		public static CompiledMapping compile(String mapping) {
+
+			List<String> literals = new ArrayList<String>();
+			List<String> variables = new ArrayList<String>();
+
+			int literalStart = 0;
+			int index = mapping.indexOf('{');
+
+			while (index != -1) {
+
+				int end = findVariableEnd(mapping, index);
+
+				if (end == -1) {
+					return null;
+				}
+
+				String variable = mapping.substring(index + 1, end);
+				int colonIndex = variable.indexOf(':');
+
+				literals.add(mapping.substring(literalStart, index));
+				variables.add(colonIndex == -1 ? variable : variable.substring(0, colonIndex));
+
+				literalStart = end + 1;
+				index = mapping.indexOf('{', literalStart);
+			}
+
+			literals.add(mapping.substring(literalStart));
+
+			for (String literal : literals) {
+				if (!isPathLiteral(literal)) {
+					return null;
+				}
+			}
+
+			return new CompiledMapping(literals.toArray(new String[literals.size()]), variables.toArray(new String[variables
+					.size()]));
+		}
+
+		/**
+		 * Returns the index of the closing brace of the variable starting at the given index or -1 if no valid variable
+		 * starts at that index.
+		 *
+		 * @param mapping
+		 * @param start
+		 * @return
+		 */
+		private static int findVariableEnd(String mapping, int start) {
+
+			for (int i = start + 1; i < mapping.length(); i++) {
+
+				char c = mapping.charAt(i);
+
+				if (c == '/') {
+					return -1;
+				}
+
+				if (c == '}' && i > start + 1) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014 the original author or authors.
+ * Copyright 2014-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,15 +15,15 @@
  */
 package org.springframework.hateoas.mvc;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Value object to partially implement the {@literal Forwarded} header defined in RFC 7239.
+ * Value object to partially implement the {@literal Forwarded} header defined in RFC 7239. Only the {@code proto} and
+ * {@code host} parameters of the first forwarded element, i.e. the one added by the proxy closest to the client, are
+ * considered. Values can be given as token or quoted string.
  *
  * @author Oliver Gierke
  * @see http://tools.ietf.org/html/rfc7239
@@ -31,17 +31,22 @@ import org.springframework.util.StringUtils;
 class ForwardedHeader {
 
 	public static String NAME = "Forwarded";
-	private static final ForwardedHeader NO_HEADER = new ForwardedHeader(Collections.<String, String> emptyMap());
+	static final String ATTRIBUTE_NAME = ForwardedHeader.class.getName();
 
-	private final Map<String, String> elements;
+	private static final ForwardedHeader NO_HEADER = new ForwardedHeader(null, null);
 
-	private ForwardedHeader(Map<String, String> elements) {
-		this.elements = elements;
+	private final String proto;
+	private final String host;
+
+	private ForwardedHeader(String proto, String host) {
+
+		this.proto = proto;
+		this.host = host;
 	}
 
 	/**
 	 * Creates a new {@link ForwardedHeader} from the given source.
-	 * 
+	 *
 	 * @param source can be {@literal null}.
 	 * @return
 	 */
@@ -51,40 +56,227 @@ class ForwardedHeader {
 			return NO_HEADER;
 		}
 
-		Map<String, String> elements = new HashMap<String, String>();
+		return new Parser(source).parse();
+	}
 
-		for (String part : source.split(";")) {
+	/**
+	 * Returns the {@link ForwardedHeader} of the given {@link HttpServletRequest}. The header is only parsed once per
+	 * request and cached as request attribute.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	public static ForwardedHeader forRequest(HttpServletRequest request) {
 
-			String[] keyValue = part.split("=");
+		Assert.notNull(request, "Request must not be null!");
 
-			if (keyValue.length != 2) {
-				continue;
-			}
+		Object attribute = request.getAttribute(ATTRIBUTE_NAME);
 
-			elements.put(keyValue[0].trim(), keyValue[1].trim());
+		if (attribute instanceof ForwardedHeader) {
+			return (ForwardedHeader) attribute;
 		}
 
-		Assert.notNull(elements, "Forwarded elements must not be null!");
-		Assert.isTrue(!elements.isEmpty(), "At least one forwarded element needs to be present!");
+		ForwardedHeader header = of(request.getHeader(NAME));
+		request.setAttribute(ATTRIBUTE_NAME, header);
 
-		return new ForwardedHeader(elements);
+		return header;
 	}
 
 	/**
 	 * Returns the value defined for the {@code proto} parameter of the header.
-	 * 
+	 *
 	 * @return
 	 */
 	public String getProto() {
-		return elements.get("proto");
+		return proto;
 	}
 
 	/**
 	 * Returns the value defined for the {@code host} parameter of the header.
-	 * 
+	 *
 	 * @return
 	 */
 	public String getHost() {
-		return elements.get("host");
+		return host;
+	}
+
+	/**
+	 * Single pass parser for the first forwarded element of a {@code Forwarded} header. Walks the source by index and
+	 * only creates {@link String}s for the values of the parameters of interest.
+	 *
+	 * @author agent
+	 */
+	private static class Parser {
+
+		private static final String PROTO = "proto";
+		private static final String HOST = "host";
+
+		private final String source;
+		private final int length;
+		private int index = 0;
+
+		private String proto;
+		private String host;
+
+		/**
+		 * Creates a new {@link Parser} for the given source.
+		 *
+		 * @param source must not be {@literal null}.
+		 */
+		public Parser(String source) {
+
+			this.source = source;
+			this.length = source.length();
+		}
+
+		/**
+		 * Parses the pairs of the first forwarded element. Malformed pairs are skipped, the first occurrence of a parameter
+		 * wins.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public ForwardedHeader parse() {
+
+			while (index < length) {
+
+				char c = source.charAt(index);
+
+				if (c == ',') {
+					break;
+				}
+
+				if (c == ';' || Character.isWhitespace(c)) {
+					index++;
+					continue;
+				}
+
+				parsePair();
+			}
+
+			return proto == null && host == null ? NO_HEADER : new ForwardedHeader(proto, host);
+		}
+
+		/**
+		 * Parses the pair starting at the current index and leaves the index at the delimiter following it.
+		 */
+		private void parsePair() {
+
+			int nameStart = index;
+
+			while (index < length && !isDelimiter(source.charAt(index)) && source.charAt(index) != '=') {
+				index++;
+			}
+
+			int nameEnd = trimEnd(nameStart, index);
+
+			if (index == length || source.charAt(index) != '=') {
+				return;
+			}
+
+			index++;
+
+			while (index < length && source.charAt(index) == ' ') {
+				index++;
+			}
+
+			boolean isProto = proto == null && matches(PROTO, nameStart, nameEnd);
+			boolean isHost = !isProto && host == null && matches(HOST, nameStart, nameEnd);
+
+			String value = index < length && source.charAt(index) == '"' ? readQuoted(isProto || isHost)
+					: readToken(isProto || isHost);
+
+			if (!StringUtils.hasText(value)) {
+				return;
+			}
+
+			if (isProto) {
+				this.proto = value;
+			} else if (isHost) {
+				this.host = value;
+			}
+		}
+
+		/**
+		 * Reads the token value starting at the current index.
+		 *
+		 * @param keep whether to return the value.
+		 * @return the value or {@literal null} if it shall not be kept.
+		 */
+		private String readToken(boolean keep) {
+
+			int start = index;
+
+			while (index < length && !isDelimiter(source.charAt(index))) {
+				index++;
+			}
+
+			return keep ? source.substring(start, trimEnd(start, index)) : null;
+		}
+
+		/**
+		 * Reads the quoted string value starting at the current index, i.e. the opening quote. Resolves escaped characters.
+		 *
+		 * @param keep whether to return the value.
+		 * @return the value or {@literal null} if it shall not be kept.
+		 */
+		private String readQuoted(boolean keep) {
+
+			int start = ++index;
+			StringBuilder unescaped = null;
+
+			while (index < length) {
+
+				char c = source.charAt(index);
+
+				if (c == '"') {
+					break;
+				}
+
+				if (c == '\\' && index + 1 < length) {
+
+					if (keep && unescaped == null) {
+						unescaped = new StringBuilder(index - start + 8).append(source, start, index);
+					}
+
+					c = source.charAt(++index);
+				}
+
+				if (unescaped != null) {
+					unescaped.append(c);
+				}
+
+				index++;
+			}
+
+			int end = index;
+
+			// skip the closing quote and everything up to the next delimiter
+			while (index < length && !isDelimiter(source.charAt(index))) {
+				index++;
+			}
+
+			if (!keep) {
+				return null;
+			}
+
+			return unescaped == null ? source.substring(start, end) : unescaped.toString();
+		}
+
+		private boolean matches(String name, int start, int end) {
+			return end - start == name.length() && source.regionMatches(true, start, name, 0, name.length());
+		}
+
+		private int trimEnd(int start, int end) {
+
+			while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+				end--;
+			}
+
+			return end;
+		}
+
+		private static boolean isDelimiter(char c) {
+			return c == ';' || c == ',';
+		}
 	}
 }
@@ -18,24 +18,39 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Base class to implement {@link ResourceAssembler}s. Will automate {@link ResourceSupport} instance creation and make
  * sure a self-link is always added.
  * 
  * @author Oliver Gierke
+ * @author agent
  */
 public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> implements ResourceAssembler<T, D> {
 
+	static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+
 	private final Class<?> controllerClass;
 	private final Class<D> resourceType;
 
+	private Executor executor;
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
 	/**
 	 * Creates a new {@link ResourceAssemblerSupport} using the given controller class and resource type.
 	 * 
@@ -61,6 +76,18 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 	public List<D> toResources(Iterable<? extends T> entities) {
 
 		Assert.notNull(entities);
+
+		if (executor != null) {
+
+			List<T> source = asList(entities);
+
+			if (source.size() >= parallelThreshold) {
+				return toResourcesInParallel(source);
+			}
+
+			entities = source;
+		}
+
 		List<D> result = new ArrayList<D>();
 
 		for (T entity : entities) {
@@ -70,6 +97,48 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return result;
 	}
 
+	/**
+	 * Configures the {@link Executor} to use to assemble resources in parallel in {@link #toResources(Iterable)}. The
+	 * entities are split into as many chunks as the configured parallelism, of which all but the last one are handed to
+	 * the {@link Executor} while the calling thread assembles the last one. Chunks the {@link Executor} hasn't started
+	 * yet once the calling thread is done are assembled by the calling thread itself, so that a saturated
+	 * {@link Executor} cannot block it. The {@link RequestAttributes} of the calling thread are exposed to the worker
+	 * threads so that links can be built using {@link ControllerLinkBuilder}. Defaults to {@literal null}, i.e. resources
+	 * are assembled sequentially.
+	 * 
+	 * @param executor can be {@literal null}.
+	 * @see #setParallelThreshold(int)
+	 * @see #setParallelism(int)
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Configures the number of entities below which resources are assembled sequentially even if an {@link Executor}
+	 * is configured. Defaults to {@value #DEFAULT_PARALLEL_THRESHOLD}.
+	 * 
+	 * @param parallelThreshold must be greater than zero.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+
+		Assert.isTrue(parallelThreshold > 0, "Parallel threshold must be greater than zero!");
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Configures the number of chunks the entities are split into when assembling resources in parallel, i.e. the
+	 * maximum number of threads assembling them at the same time including the calling one. Defaults to the number of
+	 * available processors.
+	 * 
+	 * @param parallelism must be greater than zero.
+	 */
+	public void setParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+		this.parallelism = parallelism;
+	}
+
 	/**
 	 * Creates a new resource with a self link to the given id.
 	 * 
@@ -91,6 +160,112 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return instance;
 	}
 
+	/**
+	 * Assembles the resources for the given entities using the configured {@link Executor} preserving the order of the
+	 * given entities.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 */
+	private List<D> toResourcesInParallel(List<T> entities) {
+
+		int size = entities.size();
+		Object[] result = new Object[size];
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>(parallelism);
+
+		int chunkSize = (size + parallelism - 1) / parallelism;
+		int lastChunkStart = (size - 1) / chunkSize * chunkSize;
+
+		for (int start = 0; start < lastChunkStart; start += chunkSize) {
+
+			FutureTask<Void> task = new FutureTask<Void>(new AssemblyTask(entities, result, start,
+					Math.min(start + chunkSize, size), attributes));
+			tasks.add(task);
+
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException o_O) {
+				task.run();
+			}
+		}
+
+		assemble(entities, result, lastChunkStart, size);
+
+		for (FutureTask<Void> task : tasks) {
+			await(task);
+		}
+
+		List<D> resources = new ArrayList<D>(size);
+
+		for (Object resource : result) {
+			resources.add(resourceType.cast(resource));
+		}
+
+		return resources;
+	}
+
+	/**
+	 * Assembles the resources for the entities between the given indexes into the given result array.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param result must not be {@literal null}.
+	 * @param start the index of the first entity to assemble.
+	 * @param end the index after the last entity to assemble.
+	 */
+	private void assemble(List<T> entities, Object[] result, int start, int end) {
+
+		for (int i = start; i < end; i++) {
+			result[i] = toResource(entities.get(i));
+		}
+	}
+
+	/**
+	 * Waits for the given {@link FutureTask} to complete and rethrows exceptions that occurred during its execution. Runs
+	 * the task in the calling thread if it hasn't been started yet.
+	 * 
+	 * @param task must not be {@literal null}.
+	 */
+	private static void await(FutureTask<Void> task) {
+
+		task.run();
+
+		try {
+			task.get();
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while assembling resources!", o_O);
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private static <T> List<T> asList(Iterable<? extends T> entities) {
+
+		if (entities instanceof Collection) {
+			return new ArrayList<T>((Collection<? extends T>) entities);
+		}
+
+		List<T> result = new ArrayList<T>();
+
+		for (T entity : entities) {
+			result.add(entity);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
@@ -102,4 +277,45 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 	protected D instantiateResource(T entity) {
 		return BeanUtils.instantiateClass(resourceType);
 	}
+
+	/**
+	 * {@link Callable} to assemble a chunk of resources in a worker thread exposing the given {@link RequestAttributes}
+	 * during the assembly.
+	 * 
+	 * @author agent
+	 */
+	private class AssemblyTask implements Callable<Void> {
+
+		private final List<T> entities;
+		private final Object[] result;
+		private final int start, end;
+		private final RequestAttributes attributes;
+
+		public AssemblyTask(List<T> entities, Object[] result, int start, int end, RequestAttributes attributes) {
+
+			this.entities = entities;
+			this.result = result;
+			this.start = start;
+			this.end = end;
+			this.attributes = attributes;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Callable#call()
+		 */
+		@Override
+		public Void call() {
+
+			RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+			RequestContextHolder.setRequestAttributes(attributes);
+
+			try {
+				assemble(entities, result, start, end);
+				return null;
+			} finally {
+				RequestContextHolder.setRequestAttributes(previous);
+			}
+		}
+	}
 }
@@ -173,4 +173,24 @@ public class LinkUnitTest {
 		Link link = new Link("/customer/{customerId}/programs", "programs");
 		assertThat(link.getHref(), is("/customer/{customerId}/programs"));
 	}
+
+	@Test
+	public void normalizesTemplatedHref() {
+		assertThat(new Link("/foo{?bar}{&baz}").getHref(), is("/foo{?bar,baz}"));
+	}
+
+	@Test
+	public void keepsHrefContainingBracesThatAreNoTemplateVariables() {
+
+		Link link = new Link("/foo/{bar:.*}");
+
+		assertThat(link.getHref(), is("/foo/{bar:.*}"));
+		assertThat(link.isTemplated(), is(false));
+		assertThat(link.getVariables(), is(empty()));
+	}
+
+	@Test
+	public void expandsNonTemplatedLink() {
+		assertThat(new Link("/foo").expand(), is(new Link("/foo")));
+	}
 }
@@ -18,7 +18,10 @@ package org.springframework.hateoas;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.Test;
 import org.springframework.util.StringUtils;
@@ -60,4 +63,59 @@ public class LinksUnitTest {
 	public void getSingleLinkByRel() {
 		assertThat(reference.getLink("bar"), is(new Link("/somethingElse", "bar")));
 	}
+
+	@Test
+	public void returnsAllLinksWithTheGivenRel() {
+
+		List<Link> source = new ArrayList<Link>();
+
+		for (int i = 0; i < 20; i++) {
+			source.add(new Link("/" + i, i % 2 == 0 ? "even" : "odd"));
+		}
+
+		Links links = new Links(source);
+
+		assertThat(links.getLinks("even").size(), is(10));
+		assertThat(links.getLinks("even").get(1), is(new Link("/2", "even")));
+		assertThat(links.getLinks("unknown").isEmpty(), is(true));
+		assertThat(links.getLink("odd"), is(new Link("/1", "odd")));
+
+		assertThat(reference.getLinks("foo"), is(Arrays.asList(new Link("/something", "foo"))));
+	}
+
+	@Test
+	public void returnsLinksWithRelEndingWithTheGivenOne() {
+
+		Links links = new Links(new Link("/next", "foo:next"), new Link("/prev", "foo:prev"));
+
+		assertThat(links.getLinks("next"), is(Arrays.asList(new Link("/next", "foo:next"))));
+	}
+
+	@Test
+	public void returnsMutableCopyOfLinksWithTheGivenRel() {
+
+		List<Link> links = reference.getLinks("foo");
+		links.add(new Link("/other", "foo"));
+
+		assertThat(reference.getLinks("foo").size(), is(1));
+	}
+
+	@Test
+	public void isNotAffectedByChangesToTheSourceList() {
+
+		List<Link> source = new ArrayList<Link>(Arrays.asList(new Link("/something", "foo")));
+		Links links = new Links(source);
+
+		source.add(new Link("/somethingElse", "bar"));
+
+		assertThat(links.hasLink("bar"), is(false));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void doesNotAllowModificationsThroughIterator() {
+
+		Iterator<Link> iterator = reference.iterator();
+		iterator.next();
+		iterator.remove();
+	}
 }
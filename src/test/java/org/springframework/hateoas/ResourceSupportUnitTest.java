@@ -156,4 +156,44 @@ public class ResourceSupportUnitTest {
 		assertThat(support.hasLink("self"), is(true));
 		assertThat(support.hasLink("another"), is(true));
 	}
+
+	@Test
+	public void looksUpLinksByRelForManyLinks() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, "rel" + i % 10));
+		}
+
+		assertThat(support.getLink("rel3"), is(new Link("/3", "rel3")));
+		assertThat(support.hasLink("rel9"), is(true));
+		assertThat(support.hasLink("rel10"), is(false));
+		assertThat(support.getId(), is(nullValue()));
+
+		support.add(new Link("/self"));
+		assertThat(support.getId(), is(new Link("/self")));
+	}
+
+	@Test
+	public void keepsLinkLookupConsistentWithModificationsOfTheLinkList() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, "rel" + i));
+		}
+
+		assertThat(support.getLink("rel0"), is(new Link("/0", "rel0")));
+
+		support.getLinks().remove(0);
+		assertThat(support.hasLink("rel0"), is(false));
+
+		support.getLinks().set(0, new Link("/replaced", "rel1"));
+		assertThat(support.getLink("rel1"), is(new Link("/replaced", "rel1")));
+
+		support.removeLinks();
+		assertThat(support.hasLink("rel1"), is(false));
+		assertThat(support.hasLinks(), is(false));
+	}
 }
@@ -261,6 +261,76 @@ public class UriTemplateUnitTest {
 		assertThat(template.toString(), is("/{?q}"));
 	}
 
+	@Test
+	public void returnsCachedInstanceForSameTemplate() {
+		assertThat(UriTemplate.of("/foo/{id}{?page}"), is(sameInstance(UriTemplate.of("/foo/{id}{?page}"))));
+	}
+
+	@Test
+	public void doesNotCachePlainUris() {
+		assertThat(UriTemplate.of("/foo/bar"), is(not(sameInstance(UriTemplate.of("/foo/bar")))));
+	}
+
+	@Test
+	public void keepsRecentlyUsedTemplatesCachedWhenFlooded() {
+
+		UriTemplate template = UriTemplate.of("/recent/{id}");
+
+		for (int i = 0; i < 2048; i++) {
+			UriTemplate.of("/flood/" + i + "/{id}");
+			assertThat(UriTemplate.of("/recent/{id}"), is(sameInstance(template)));
+		}
+	}
+
+	@Test
+	public void discoversVariablesNextToUnsupportedExpressions() {
+
+		UriTemplate template = new UriTemplate("/{{foo}/{bar:\\d+}{?page}");
+
+		assertVariables(template, new TemplateVariable("foo", VariableType.PATH_VARIABLE), new TemplateVariable("page",
+				VariableType.REQUEST_PARAM));
+		assertThat(UriTemplate.isTemplate("/foo{}{?}"), is(false));
+	}
+
+	@Test
+	public void expandsAbsoluteTemplateWithAllVariableTypes() {
+
+		UriTemplate template = new UriTemplate("http://localhost:8080/foo/{id}{/bar}{?page,size}{#anchor}");
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("id", 4711);
+		parameters.put("bar", "bar");
+		parameters.put("size", 10);
+		parameters.put("anchor", "top");
+
+		assertThat(template.expand(parameters).toString(), is("http://localhost:8080/foo/4711/bar?size=10#top"));
+	}
+
+	@Test
+	public void expandsValuesRequiringEncoding() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?q}");
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("id", "foo");
+		parameters.put("q", "foo bar");
+
+		assertThat(template.expand(parameters).toString(), is("/foo/foo?q=foo%20bar"));
+	}
+
+	@Test
+	public void keepsQueryParametersOfBaseUriWhenExpanding() {
+
+		UriTemplate template = new UriTemplate("/foo?bar=1{&page}");
+
+		assertThat(template.expand(Collections.singletonMap("page", 2)).toString(), is("/foo?bar=1&page=2"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingRequiredPathVariableViaArray() {
+		new UriTemplate("/foo/{bar}/{baz}").expand("bar");
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
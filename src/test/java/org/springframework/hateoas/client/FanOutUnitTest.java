@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link FanOut}.
+ * 
+ * @author agent
+ */
+public class FanOutUnitTest {
+
+	static final List<String> URIS = Arrays.asList("/0", "/1", "/2", "/3");
+
+	RecordingFetcher<String> fetcher = new RecordingFetcher<String>();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidConcurrency() {
+		new FanOut<String>(URIS, 0, fetcher);
+	}
+
+	@Test
+	public void limitsConcurrentRequestsAndKeepsOrder() throws Exception {
+
+		ListenableFuture<List<String>> result = new FanOut<String>(URIS, 2, fetcher).toList();
+
+		assertThat(fetcher.pending.keySet(), contains("/0", "/1"));
+
+		complete("/1");
+		assertThat(fetcher.pending.keySet(), contains("/0", "/2"));
+
+		complete("/2");
+		complete("/0");
+		complete("/3");
+
+		assertThat(result.get(), contains("/0 done", "/1 done", "/2 done", "/3 done"));
+	}
+
+	@Test
+	public void completesImmediatelyForNoUris() throws Exception {
+
+		ListenableFuture<List<String>> result = new FanOut<String>(Collections.<String> emptyList(), 2, fetcher).toList();
+		assertThat(result.get(), is(empty()));
+	}
+
+	@Test
+	public void failsWithFirstFailedRequest() throws Exception {
+
+		ListenableFuture<List<String>> result = new FanOut<String>(URIS, 2, fetcher).toList();
+
+		fetcher.pending.remove("/0").completeExceptionally(new IllegalStateException());
+
+		assertThat(result.isDone(), is(true));
+		assertThat(fetcher.pending.keySet(), contains("/1"));
+
+		try {
+			ListenableFutures.await(result);
+			fail("Expected IllegalStateException!");
+		} catch (IllegalStateException o_O) {}
+	}
+
+	@Test
+	public void iteratorOnlyStartsNewRequestsForConsumedResults() {
+
+		Iterator<String> iterator = new FanOut<String>(URIS, 2, fetcher).toIterator();
+
+		assertThat(fetcher.pending.keySet(), contains("/0", "/1"));
+
+		complete("/1");
+		complete("/0");
+
+		assertThat(fetcher.requested, hasSize(2));
+		assertThat(iterator.next(), is("/1 done"));
+		assertThat(fetcher.requested, hasSize(3));
+
+		List<String> rest = new ArrayList<String>();
+		complete("/2");
+		rest.add(iterator.next());
+		complete("/3");
+		rest.add(iterator.next());
+		rest.add(iterator.next());
+
+		assertThat(rest, containsInAnyOrder("/0 done", "/2 done", "/3 done"));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	private void complete(String uri) {
+		fetcher.complete(uri, uri + " done");
+	}
+}
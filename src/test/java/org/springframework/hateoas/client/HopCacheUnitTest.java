@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.client.HopCache.Entry;
+import org.springframework.hateoas.client.HopCache.Key;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Unit tests for {@link HopCache}.
+ * 
+ * @author agent
+ */
+public class HopCacheUnitTest {
+
+	static final Link LINK = new Link("/foo", "foo");
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidCapacity() {
+		new HopCache(0);
+	}
+
+	@Test
+	public void considersLinkFreshForMaxAge() {
+
+		Entry entry = Entry.of(LINK, headers("Cache-Control", "public, max-age=60"), null);
+
+		assertThat(entry.getLink(), is(LINK));
+		assertThat(entry.isFresh(), is(true));
+		assertThat(entry.getETag(), is(nullValue()));
+	}
+
+	@Test
+	public void subtractsAgeFromMaxAge() {
+
+		HttpHeaders headers = headers("Cache-Control", "max-age=60");
+		headers.add("Age", "60");
+
+		assertThat(Entry.of(LINK, headers, null), is(nullValue()));
+
+		headers.setETag("\"1\"");
+
+		Entry entry = Entry.of(LINK, headers, null);
+
+		assertThat(entry.isFresh(), is(false));
+		assertThat(entry.getETag(), is("\"1\""));
+	}
+
+	@Test
+	public void doesNotCacheLinksWithoutCachingHeaders() {
+		assertThat(Entry.of(LINK, new HttpHeaders(), null), is(nullValue()));
+	}
+
+	@Test
+	public void doesNotCacheResponsesMarkedNoStore() {
+
+		HttpHeaders headers = headers("Cache-Control", "no-store, max-age=60");
+		headers.setETag("\"1\"");
+
+		assertThat(Entry.of(LINK, headers, null), is(nullValue()));
+	}
+
+	@Test
+	public void alwaysRevalidatesResponsesMarkedNoCache() {
+
+		HttpHeaders headers = headers("Cache-Control", "no-cache, max-age=60");
+		headers.setETag("\"1\"");
+
+		assertThat(Entry.of(LINK, headers, null).isFresh(), is(false));
+	}
+
+	@Test
+	public void keepsPreviousETagOnRefresh() {
+
+		HopCache cache = new HopCache();
+		Key key = key("/");
+
+		cache.put(key, LINK, headers("ETag", "\"1\""));
+		cache.refresh(key, cache.get(key), headers("Cache-Control", "max-age=60"));
+
+		Entry entry = cache.get(key);
+
+		assertThat(entry.isFresh(), is(true));
+		assertThat(entry.getETag(), is("\"1\""));
+	}
+
+	@Test
+	public void removesEntryIfResponseCannotBeCachedAnymore() {
+
+		HopCache cache = new HopCache();
+		Key key = key("/");
+
+		cache.put(key, LINK, headers("Cache-Control", "max-age=60"));
+		cache.put(key, LINK, headers("Cache-Control", "no-store"));
+
+		assertThat(cache.get(key), is(nullValue()));
+	}
+
+	@Test
+	public void usesRequestHeadersAsPartOfKey() {
+
+		HopCache cache = new HopCache();
+
+		cache.put(key("/"), LINK, headers("Cache-Control", "max-age=60"));
+
+		HttpHeaders json = new HttpHeaders();
+		json.setAccept(Arrays.asList(MediaType.APPLICATION_JSON));
+
+		HttpHeaders authorized = requestHeaders();
+		authorized.set("Authorization", "Basic Zm9vOmJhcg==");
+
+		assertThat(cache.get(key("/")), is(notNullValue()));
+		assertThat(cache.get(new Key(URI.create("/"), "foo", json)), is(nullValue()));
+		assertThat(cache.get(new Key(URI.create("/"), "foo", authorized)), is(nullValue()));
+	}
+
+	@Test
+	public void isNotAffectedByChangesToTheRequestHeaders() {
+
+		HopCache cache = new HopCache();
+		HttpHeaders headers = requestHeaders();
+
+		cache.put(new Key(URI.create("/"), "foo", headers), LINK, headers("Cache-Control", "max-age=60"));
+		headers.set("Authorization", "Basic Zm9vOmJhcg==");
+
+		assertThat(cache.get(key("/")), is(notNullValue()));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntries() {
+
+		HopCache cache = new HopCache(2);
+		HttpHeaders headers = headers("Cache-Control", "max-age=60");
+
+		cache.put(key("/first"), LINK, headers);
+		cache.put(key("/second"), LINK, headers);
+		cache.get(key("/first"));
+		cache.put(key("/third"), LINK, headers);
+
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get(key("/first")), is(notNullValue()));
+		assertThat(cache.get(key("/second")), is(nullValue()));
+		assertThat(cache.get(key("/third")), is(notNullValue()));
+	}
+
+	private static Key key(String uri) {
+		return new Key(URI.create(uri), "foo", requestHeaders());
+	}
+
+	private static HttpHeaders requestHeaders() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setAccept(Arrays.asList(MediaTypes.HAL_JSON));
+
+		return headers;
+	}
+
+	private static HttpHeaders headers(String name, String value) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(name, value);
+
+		return headers;
+	}
+}
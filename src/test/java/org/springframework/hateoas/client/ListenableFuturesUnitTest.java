@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.hateoas.client.ListenableFutures.Function;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link ListenableFutures} and {@link SettableFuture}.
+ * 
+ * @author agent
+ */
+public class ListenableFuturesUnitTest {
+
+	ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void completesSettableFutureOnlyOnce() throws Exception {
+
+		SettableFuture<String> future = new SettableFuture<String>();
+
+		assertThat(future.isDone(), is(false));
+		assertThat(future.complete("first"), is(true));
+		assertThat(future.complete("second"), is(false));
+		assertThat(future.completeExceptionally(new IllegalStateException()), is(false));
+		assertThat(future.get(), is("first"));
+	}
+
+	@Test
+	public void chainsFutures() throws Exception {
+
+		SettableFuture<String> source = new SettableFuture<String>();
+
+		ListenableFuture<Integer> result = ListenableFutures.then(source,
+				new Function<String, ListenableFuture<Integer>>() {
+
+					@Override
+					public ListenableFuture<Integer> apply(String value) {
+						return ListenableFutures.map(ListenableFutures.completed(value), new Function<String, Integer>() {
+
+							@Override
+							public Integer apply(String value) {
+								return value.length();
+							}
+						});
+					}
+				});
+
+		assertThat(result.isDone(), is(false));
+
+		source.complete("value");
+
+		assertThat(result.get(), is(5));
+	}
+
+	@Test
+	public void propagatesFailureOfFunction() throws Exception {
+
+		ListenableFuture<Object> result = ListenableFutures.then(ListenableFutures.completed("value"),
+				new Function<String, ListenableFuture<Object>>() {
+
+					@Override
+					public ListenableFuture<Object> apply(String value) {
+						throw new IllegalStateException();
+					}
+				});
+
+		try {
+			result.get();
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException o_O) {
+			assertThat(o_O.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+	@Test
+	public void timesOutAndCancelsSourceFuture() throws Exception {
+
+		SettableFuture<String> source = new SettableFuture<String>();
+		ListenableFuture<String> result = ListenableFutures.withTimeout(source, 10, TimeUnit.MILLISECONDS, scheduler);
+
+		try {
+			result.get(1, TimeUnit.SECONDS);
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException o_O) {
+			assertThat(o_O.getCause(), is(instanceOf(TimeoutException.class)));
+		}
+
+		assertThat(source.isCancelled(), is(true));
+	}
+
+	@Test
+	public void doesNotTimeOutFutureCompletedInTime() throws Exception {
+
+		SettableFuture<String> source = new SettableFuture<String>();
+		ListenableFuture<String> result = ListenableFutures.withTimeout(source, 1, TimeUnit.SECONDS, scheduler);
+
+		source.complete("value");
+
+		assertThat(result.get(), is("value"));
+	}
+}
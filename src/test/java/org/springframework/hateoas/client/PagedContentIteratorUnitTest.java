@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.client.ListenableFutures.Function;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Unit tests for {@link PagedContentIterator}.
+ *
+ * @author agent
+ */
+public class PagedContentIteratorUnitTest {
+
+	static final UriTemplate TEMPLATE = new UriTemplate("/items{?page,size}");
+	static final Map<String, Object> NO_PARAMETERS = Collections.emptyMap();
+
+	RecordingFetcher<PagedResources<String>> fetcher = new RecordingFetcher<PagedResources<String>>();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidConcurrency() {
+		new PagedContentIterator<String>(TEMPLATE, NO_PARAMETERS, 0, fetcher);
+	}
+
+	@Test
+	public void followsNextLinksAndPrefetchesNextPage() {
+
+		fetcher.register("/items", page(0, true, "a", "b"));
+		fetcher.register("/items?page=1&size=2", page(1, true, "c", "d"));
+		fetcher.register("/items?page=2&size=2", page(2, false, "e"));
+
+		Iterator<String> iterator = new PagedContentIterator<String>(TEMPLATE, NO_PARAMETERS, 1, fetcher);
+
+		assertThat(fetcher.requested, contains("/items"));
+		assertThat(iterator.next(), is("a"));
+		assertThat(fetcher.requested, contains("/items", "/items?page=1&size=2"));
+
+		List<String> rest = new ArrayList<String>();
+
+		while (iterator.hasNext()) {
+			rest.add(iterator.next());
+		}
+
+		assertThat(rest, contains("b", "c", "d", "e"));
+		assertThat(fetcher.requested, hasSize(3));
+	}
+
+	@Test
+	public void fetchesRemainingPagesInParallelUsingTemplate() {
+
+		fetcher.register("/items", page(0, true, "a", "b"));
+		fetcher.register("/items?page=1&size=2", page(1, true, "c", "d"));
+		fetcher.register("/items?page=2&size=2", page(2, false, "e"));
+
+		Iterator<String> iterator = new PagedContentIterator<String>(TEMPLATE, NO_PARAMETERS, 4, fetcher);
+
+		assertThat(iterator.next(), is("a"));
+		assertThat(fetcher.requested, contains("/items", "/items?page=1&size=2", "/items?page=2&size=2"));
+
+		List<String> rest = new ArrayList<String>();
+
+		while (iterator.hasNext()) {
+			rest.add(iterator.next());
+		}
+
+		assertThat(rest, contains("b", "c", "d", "e"));
+	}
+
+	@Test
+	public void limitsNumberOfPagesFetchedInParallel() {
+
+		fetcher.register("/items", page(0, true, "a"));
+
+		Iterator<String> iterator = new PagedContentIterator<String>(TEMPLATE, NO_PARAMETERS, 2, fetcher);
+
+		iterator.next();
+
+		assertThat(fetcher.requested, contains("/items", "/items?page=1&size=2", "/items?page=2&size=2"));
+	}
+
+	@Test
+	public void fallsBackToNextLinksIfTemplateDoesNotContainPageVariable() {
+
+		fetcher.register("/items", page(0, true, "a"));
+		fetcher.register("/items?page=1&size=2", page(1, false, "b"));
+
+		Iterator<String> iterator = new PagedContentIterator<String>(new UriTemplate("/items"), NO_PARAMETERS, 4,
+				fetcher);
+
+		assertThat(iterator.next(), is("a"));
+		assertThat(iterator.next(), is("b"));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(fetcher.requested, hasSize(2));
+	}
+
+	@Test
+	public void usesParametersForPageUris() {
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put("size", 10);
+
+		fetcher.register("/items?size=10", page(0, false, "a"));
+
+		Iterator<String> iterator = new PagedContentIterator<String>(TEMPLATE, parameters, 4, fetcher);
+
+		assertThat(iterator.next(), is("a"));
+		assertThat(fetcher.requested, contains("/items?size=10", "/items?page=1&size=10", "/items?page=2&size=10"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void surfacesFailedPageRequest() {
+
+		Iterator<String> iterator = new PagedContentIterator<String>(TEMPLATE, NO_PARAMETERS, 1, fetcher);
+		fetcher.pending.remove("/items").completeExceptionally(new IllegalStateException());
+
+		iterator.hasNext();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void surfacesExceptionThrownWhenRequestingPage() {
+
+		Function<String, ListenableFuture<PagedResources<String>>> failing = //
+		new Function<String, ListenableFuture<PagedResources<String>>>() {
+
+			@Override
+			public ListenableFuture<PagedResources<String>> apply(String uri) {
+				throw new IllegalStateException();
+			}
+		};
+
+		new PagedContentIterator<String>(TEMPLATE, NO_PARAMETERS, 1, failing).hasNext();
+	}
+
+	private static PagedResources<String> page(long number, boolean hasNext, String... content) {
+
+		List<Link> links = hasNext ? Arrays.asList(new Link("/items?page=" + (number + 1) + "&size=2", Link.REL_NEXT))
+				: Collections.<Link> emptyList();
+
+		return new PagedResources<String>(Arrays.asList(content), new PageMetadata(2, number, 5, 3), links);
+	}
+}
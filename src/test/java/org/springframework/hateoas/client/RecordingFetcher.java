@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.client.ListenableFutures.Function;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Fetcher standing in for the requests of resources in tests. Records the URIs requested and returns completed
+ * {@link ListenableFuture}s for the results registered up front. Returns pending ones to be completed by the test
+ * otherwise.
+ *
+ * @author agent
+ */
+class RecordingFetcher<T> implements Function<String, ListenableFuture<T>> {
+
+	final List<String> requested = new ArrayList<String>();
+	final Map<String, SettableFuture<T>> pending = new LinkedHashMap<String, SettableFuture<T>>();
+
+	private final Map<String, T> results = new HashMap<String, T>();
+
+	/**
+	 * Registers the result to be returned for requests of the given URI.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param result can be {@literal null}.
+	 */
+	void register(String uri, T result) {
+		results.put(uri, result);
+	}
+
+	/**
+	 * Completes the pending request of the given URI with the given result.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param result can be {@literal null}.
+	 */
+	void complete(String uri, T result) {
+		pending.remove(uri).complete(result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.ListenableFutures.Function#apply(java.lang.Object)
+	 */
+	@Override
+	public ListenableFuture<T> apply(String uri) {
+
+		requested.add(uri);
+
+		if (results.containsKey(uri)) {
+			return ListenableFutures.completed(results.get(uri));
+		}
+
+		SettableFuture<T> future = new SettableFuture<T>();
+		pending.put(uri, future);
+
+		return future;
+	}
+}
@@ -21,28 +21,44 @@ import static org.junit.Assert.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.client.Traverson.TraversalBuilder;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.AsyncClientHttpRequest;
+import org.springframework.http.client.AsyncClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -260,6 +276,461 @@ public class TraversonTests {
 		assertThat(converters.get(0), is(instanceOf(StringHttpMessageConverter.class)));
 	}
 
+	@Test
+	public void streamsIntermediateHopsIfConfigured() {
+
+		traverson.setStreamingHops(true);
+
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name"), is("Keanu Reaves"));
+		assertThat(traverson.follow(//
+				"$._links.movies.href", //
+				"$._links.movie.href", //
+				"$._links.actor.href").<String> toObject("$.name"), is("Keanu Reaves"));
+	}
+
+	@Test
+	public void sendsConfiguredHeadersForStreamedHops() {
+
+		String expectedHeader = "<http://www.example.com>;rel=\"home\"";
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Link", expectedHeader);
+
+		traverson.setStreamingHops(true).follow("movies", "movie").withHeaders(headers).asLink();
+
+		verifyThatRequest(). //
+				havingPathEqualTo("/movies"). //
+				havingHeader("Link", hasItem(expectedHeader)). //
+				havingHeader("Accept", hasItem("application/hal+json"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsMissingLinkInStreamedHop() {
+		traverson.setStreamingHops(true).follow("movies", "unknown").asLink();
+	}
+
+	@Test
+	public void usesCachedLinksOfIntermediateHops() {
+
+		String root = server.rootResource();
+
+		onRequest(). //
+				havingPathEqualTo("/cache"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + root + "/cache/next\" }}}"). //
+				withHeader("Cache-Control", "max-age=60");
+
+		onRequest(). //
+				havingPathEqualTo("/cache/next"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"final\" : { \"href\" : \"" + root + "/cache/final\" }}}"). //
+				withHeader("ETag", "\"1\"");
+
+		onRequest(). //
+				havingPathEqualTo("/cache/next"). //
+				havingHeaderEqualTo("If-None-Match", "\"1\""). //
+				respond(). //
+				withStatus(304);
+
+		onRequest(). //
+				havingPathEqualTo("/cache/final"). //
+				respond(). //
+				withBody("{ \"name\" : \"final\" }");
+
+		HopCache cache = new HopCache();
+
+		for (boolean streamingHops : Arrays.asList(false, true)) {
+
+			cache.clear();
+
+			Traverson traverson = new Traverson(URI.create(root.concat("/cache")), MediaTypes.HAL_JSON);
+			traverson.setHopCache(cache).setStreamingHops(streamingHops);
+
+			assertThat(traverson.follow("next", "final").<String> toObject("$.name"), is("final"));
+			assertThat(traverson.follow("next", "final").<String> toObject("$.name"), is("final"));
+			assertThat(cache.size(), is(2));
+		}
+
+		verifyThatRequest().havingPathEqualTo("/cache").receivedTimes(2);
+		verifyThatRequest().havingPathEqualTo("/cache/next").receivedTimes(4);
+		verifyThatRequest().havingPathEqualTo("/cache/next").havingHeaderEqualTo("If-None-Match", "\"1\"")
+				.receivedTimes(2);
+		verifyThatRequest().havingPathEqualTo("/cache/final").receivedTimes(4);
+	}
+
+	@Test
+	public void doesNotShareCachedLinksBetweenRequestsWithDifferentHeaders() {
+
+		String root = server.rootResource();
+
+		onRequest(). //
+				havingPathEqualTo("/secured"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + root + "/secured/next\" }}}"). //
+				withHeader("Cache-Control", "max-age=60");
+
+		onRequest(). //
+				havingPathEqualTo("/secured/next"). //
+				respond(). //
+				withBody("{ \"name\" : \"next\" }");
+
+		HopCache cache = new HopCache();
+
+		for (String credentials : Arrays.asList("Basic Zm9vOmJhcg==", "Basic YmFyOmZvbw==", "Basic Zm9vOmJhcg==")) {
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.set("Authorization", credentials);
+
+			Traverson traverson = new Traverson(URI.create(root.concat("/secured")), MediaTypes.HAL_JSON);
+			traverson.setHopCache(cache);
+
+			assertThat(traverson.follow("next").withHeaders(headers).<String> toObject("$.name"), is("next"));
+		}
+
+		verifyThatRequest().havingPathEqualTo("/secured").receivedTimes(2);
+		verifyThatRequest().havingPathEqualTo("/secured").havingHeaderEqualTo("Authorization", "Basic YmFyOmZvbw==")
+				.receivedOnce();
+	}
+
+	@Test
+	public void traversesAsynchronously() throws Exception {
+
+		ListenableFuture<String> name = traverson.follow("movies", "movie", "actor").<String> toObjectAsync("$.name");
+		ListenableFuture<Resource<Actor>> actor = traverson.follow("movies", "movie", "actor").toObjectAsync(
+				new ParameterizedTypeReference<Resource<Actor>>() {});
+		ListenableFuture<Link> link = traverson.follow("movies").asLinkAsync();
+
+		assertThat(name.get(5, TimeUnit.SECONDS), is("Keanu Reaves"));
+		assertThat(actor.get(5, TimeUnit.SECONDS).getContent().name, is("Keanu Reaves"));
+		assertThat(link.get(5, TimeUnit.SECONDS).getHref(), endsWith("/movies"));
+		assertThat(link.get().getRel(), is("movies"));
+	}
+
+	@Test
+	public void usesConfiguredHeadersForAsynchronousTraversal() throws Exception {
+
+		String expectedHeader = "<http://www.example.com>;rel=\"home\"";
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Link", expectedHeader);
+
+		ResponseEntity<Actor> entity = traverson.follow("movies", "movie", "actor").withHeaders(headers)
+				.toEntityAsync(Actor.class).get(5, TimeUnit.SECONDS);
+
+		assertThat(entity.getBody().name, is("Keanu Reaves"));
+
+		verifyThatRequest(). //
+				havingPathEqualTo("/actors/d95dbf62-f900-4dfa-9de8-0fc71e02ffa4"). //
+				havingHeader("Link", hasItem(expectedHeader));
+	}
+
+	@Test
+	public void failsAsynchronousTraversalForMissingLink() throws Exception {
+
+		try {
+			traverson.follow("movies", "unknown").asLinkAsync().get(5, TimeUnit.SECONDS);
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException o_O) {
+			assertThat(o_O.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+	@Test
+	public void timesOutSlowHopOfAsynchronousTraversal() throws Exception {
+
+		onRequest(). //
+				havingPathEqualTo("/slow"). //
+				respond(). //
+				withDelay(2, TimeUnit.SECONDS). //
+				withBody("{ \"_links\" : { \"self\" : { \"href\" : \"/slow\" }}}");
+
+		Traverson traverson = new Traverson(URI.create(server.rootResource().concat("/slow")), MediaTypes.HAL_JSON);
+
+		try {
+			traverson.follow("self").withHopTimeout(100, TimeUnit.MILLISECONDS).asLinkAsync().get(1, TimeUnit.SECONDS);
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException o_O) {
+			assertThat(o_O.getCause(), is(instanceOf(TimeoutException.class)));
+		}
+	}
+
+	@Test
+	public void fetchesAllLinkedResourcesInOrder() {
+
+		setUpFanOut(5);
+
+		List<Actor> actors = traverson.follow("fanout").withConcurrency(2).toObjects("actor", Actor.class);
+
+		assertThat(actors, hasSize(5));
+
+		for (int i = 0; i < actors.size(); i++) {
+			assertThat(actors.get(i).name, is("Actor " + i));
+		}
+
+		verifyThatRequest().havingPathEqualTo("/fanout").receivedOnce();
+	}
+
+	@Test
+	public void streamsAllLinkedResources() {
+
+		setUpFanOut(5);
+
+		Iterator<Resource<Actor>> actors = traverson.follow("fanout").streamObjects("actor",
+				new ParameterizedTypeReference<Resource<Actor>>() {});
+
+		List<String> names = new ArrayList<String>();
+
+		while (actors.hasNext()) {
+			names.add(actors.next().getContent().name);
+		}
+
+		assertThat(names, containsInAnyOrder("Actor 0", "Actor 1", "Actor 2", "Actor 3", "Actor 4"));
+	}
+
+	@Test
+	public void returnsNoObjectsIfNoLinksFound() {
+
+		setUpFanOut(0);
+
+		assertThat(traverson.follow("fanout").toObjects("actor", Actor.class), is(empty()));
+		assertThat(traverson.follow("fanout").streamObjects("actor", Actor.class).hasNext(), is(false));
+	}
+
+	@Test(expected = HttpClientErrorException.class)
+	public void failsFanOutIfLinkedResourceCannotBeFetched() {
+
+		setUpFanOut(3);
+
+		onRequest(). //
+				havingPathEqualTo("/fanout/1"). //
+				respond(). //
+				withStatus(404);
+
+		traverson.follow("fanout").toObjects("actor", Actor.class);
+	}
+
+	@Test
+	public void executesBatchOfTraversalsFetchingSharedResourcesOnce() {
+
+		List<TraversalBuilder> traversals = Arrays.asList(traverson.follow("movies"), //
+				traverson.follow("movies", "movie"), //
+				traverson.follow("movies", "movie", "actor"));
+
+		List<Link> links = traverson.asLinks(traversals);
+
+		assertThat(links, hasSize(3));
+		assertThat(links.get(0).getHref(), endsWith("/movies"));
+		assertThat(links.get(1).getRel(), is("movie"));
+		assertThat(links.get(2).getRel(), is("actor"));
+
+		verifyThatRequest().havingPathEqualTo("/").receivedOnce();
+		verifyThatRequest().havingPathEqualTo("/movies").receivedOnce();
+	}
+
+	@Test
+	public void executesBatchOfTraversalsIntoObjects() {
+
+		List<TraversalBuilder> traversals = Arrays.asList(traverson.follow("movies", "movie", "actor"),
+				traverson.follow("movies", "movie", "actor"));
+
+		List<Actor> actors = traverson.toObjects(traversals, Actor.class);
+
+		assertThat(actors, hasSize(2));
+		assertThat(actors.get(0).name, is("Keanu Reaves"));
+		assertThat(actors.get(1).name, is("Keanu Reaves"));
+
+		verifyThatRequest().havingPathEqualTo("/").receivedOnce();
+	}
+
+	@Test
+	public void usesConfiguredRequestFactoryForSynchronousAndAsynchronousTraversals() throws Exception {
+
+		CountingRequestFactory requestFactory = new CountingRequestFactory();
+		traverson.setRequestFactory(requestFactory);
+
+		traverson.follow("movies").asLink();
+		assertThat(requestFactory.requests, is(1));
+
+		traverson.follow("movies").asLinkAsync().get(5, TimeUnit.SECONDS);
+		assertThat(requestFactory.asyncRequests, is(1));
+	}
+
+	@Test
+	public void fallsBackToDefaultAsyncTemplateForSimpleRequestFactory() throws Exception {
+
+		CountingSimpleRequestFactory requestFactory = new CountingSimpleRequestFactory();
+		traverson.setRequestFactory(requestFactory);
+
+		Link link = traverson.follow("movies").asLinkAsync().get(5, TimeUnit.SECONDS);
+
+		assertThat(link.getHref(), endsWith("/movies"));
+		assertThat(requestFactory.requests, is(0));
+		assertThat(requestFactory.asyncRequests, is(0));
+	}
+
+	@Test
+	public void handsEmbeddedItemsToCallbackOneByOne() {
+
+		setUpEmbeddedActors();
+
+		final List<String> names = new ArrayList<String>();
+
+		PagedResources<Actor> result = traverson.follow("actors").forEachEmbedded(Actor.class,
+				new EmbeddedItemCallback<Actor>() {
+
+					@Override
+					public void doWithItem(Actor item) {
+						names.add(item.name);
+					}
+				});
+
+		assertThat(names, contains("Actor 0", "Actor 1", "Actor 2"));
+		assertThat(result.getContent(), is(empty()));
+		assertThat(result.getNextLink().getHref(), endsWith("/actors?page=1"));
+		assertThat(result.getMetadata().getTotalElements(), is(6L));
+	}
+
+	@Test
+	public void handsEmbeddedResourcesToCallback() {
+
+		setUpEmbeddedActors();
+
+		final List<Resource<Actor>> resources = new ArrayList<Resource<Actor>>();
+
+		traverson.follow("actors").forEachEmbedded(new ParameterizedTypeReference<Resource<Actor>>() {},
+				new EmbeddedItemCallback<Resource<Actor>>() {
+
+					@Override
+					public void doWithItem(Resource<Actor> item) {
+						resources.add(item);
+					}
+				});
+
+		assertThat(resources, hasSize(3));
+		assertThat(resources.get(2).getContent().name, is("Actor 2"));
+		assertThat(resources.get(2).getId().getHref(), endsWith("/actors/2"));
+	}
+
+	@Test
+	public void streamsContentOfAllPagesFollowingNextLinks() {
+
+		setUpPagedActors();
+
+		Iterator<Actor> actors = traverson.follow("actors").streamPagedContent(
+				new ParameterizedTypeReference<PagedResources<Actor>>() {});
+
+		List<String> names = new ArrayList<String>();
+
+		while (actors.hasNext()) {
+			names.add(actors.next().name);
+		}
+
+		assertThat(names, contains("Actor 0", "Actor 1", "Actor 2", "Actor 3", "Actor 4"));
+		verifyThatRequest().havingPathEqualTo("/actors").receivedTimes(3);
+	}
+
+	@Test
+	public void streamsContentOfPagesFetchedInParallel() {
+
+		setUpPagedActors();
+
+		Iterator<Actor> actors = traverson.follow("actors").withParallelPages().streamPagedContent(
+				new ParameterizedTypeReference<PagedResources<Actor>>() {});
+
+		List<String> names = new ArrayList<String>();
+
+		while (actors.hasNext()) {
+			names.add(actors.next().name);
+		}
+
+		assertThat(names, contains("Actor 0", "Actor 1", "Actor 2", "Actor 3", "Actor 4"));
+		verifyThatRequest().havingPathEqualTo("/actors").havingQueryStringEqualTo("page=2&size=2").receivedOnce();
+	}
+
+	private void setUpEmbeddedActors() {
+
+		String root = server.rootResource();
+		StringBuilder actors = new StringBuilder();
+
+		for (int i = 0; i < 3; i++) {
+			actors.append(i == 0 ? "" : ", ").append("{ \"name\" : \"Actor ").append(i)
+					.append("\", \"_links\" : { \"self\" : { \"href\" : \"").append(root).append("/actors/").append(i)
+					.append("\" }}}");
+		}
+
+		onRequest(). //
+				havingPathEqualTo("/"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"actors\" : { \"href\" : \"" + root + "/actors\" }}}");
+
+		onRequest(). //
+				havingPathEqualTo("/actors"). //
+				respond(). //
+				withBody("{ \"_embedded\" : { \"actors\" : [ " + actors + " ] }, " //
+						+ "\"_links\" : { \"next\" : { \"href\" : \"" + root + "/actors?page=1\" }}, " //
+						+ "\"page\" : { \"size\" : 3, \"totalElements\" : 6, \"totalPages\" : 2, \"number\" : 0 }}");
+	}
+
+	private void setUpPagedActors() {
+
+		String root = server.rootResource();
+
+		onRequest(). //
+				havingPathEqualTo("/"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"actors\" : { \"href\" : \"" + root
+						+ "/actors{?page,size}\", \"templated\" : true }}}");
+
+		for (int page = 0; page < 3; page++) {
+
+			StringBuilder actors = new StringBuilder();
+
+			for (int i = page * 2; i < Math.min(page * 2 + 2, 5); i++) {
+				actors.append(i == page * 2 ? "" : ", ").append("{ \"name\" : \"Actor ").append(i).append("\" }");
+			}
+
+			String next = page == 2 ? "" : String.format(
+					", \"_links\" : { \"next\" : { \"href\" : \"%s/actors?page=%s&size=2\" }}", root, page + 1);
+
+			onRequest(). //
+					havingPathEqualTo("/actors"). //
+					havingQueryStringEqualTo(page == 0 ? null : String.format("page=%s&size=2", page)). //
+					respond(). //
+					withDelay((3 - page) * 20, TimeUnit.MILLISECONDS). //
+					withBody(String.format("{ \"_embedded\" : { \"actors\" : [ %s ] }%s, \"page\" : "
+							+ "{ \"size\" : 2, \"totalElements\" : 5, \"totalPages\" : 3, \"number\" : %s }}", actors, next,
+							page));
+		}
+	}
+
+	private void setUpFanOut(int numberOfActors) {
+
+		String root = server.rootResource();
+		StringBuilder links = new StringBuilder();
+
+		for (int i = 0; i < numberOfActors; i++) {
+
+			links.append(i == 0 ? "" : ", ").append("{ \"href\" : \"").append(root).append("/fanout/").append(i)
+					.append("\" }");
+
+			onRequest(). //
+					havingPathEqualTo("/fanout/" + i). //
+					respond(). //
+					withDelay((numberOfActors - i) * 20, TimeUnit.MILLISECONDS). //
+					withBody("{ \"name\" : \"Actor " + i + "\" }");
+		}
+
+		onRequest(). //
+				havingPathEqualTo("/"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"fanout\" : { \"href\" : \"" + root + "/fanout\" }}}");
+
+		onRequest(). //
+				havingPathEqualTo("/fanout"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"actor\" : [ " + links + " ] }}");
+	}
+
 	private void setUpActors() {
 
 		Resource<Actor> actor = new Resource<Actor>(new Actor("Keanu Reaves"));
@@ -285,6 +756,46 @@ public class TraversonTests {
 		}
 	};
 
+	static class CountingRequestFactory implements ClientHttpRequestFactory, AsyncClientHttpRequestFactory {
+
+		private final SimpleClientHttpRequestFactory delegate = new CountingSimpleRequestFactory();
+
+		int requests, asyncRequests;
+
+		@Override
+		public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+			this.requests++;
+			return delegate.createRequest(uri, httpMethod);
+		}
+
+		@Override
+		public AsyncClientHttpRequest createAsyncRequest(URI uri, HttpMethod httpMethod) throws IOException {
+			this.asyncRequests++;
+			return delegate.createAsyncRequest(uri, httpMethod);
+		}
+	}
+
+	static class CountingSimpleRequestFactory extends SimpleClientHttpRequestFactory {
+
+		int requests, asyncRequests;
+
+		public CountingSimpleRequestFactory() {
+			setTaskExecutor(new SimpleAsyncTaskExecutor());
+		}
+
+		@Override
+		public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+			this.requests++;
+			return super.createRequest(uri, httpMethod);
+		}
+
+		@Override
+		public AsyncClientHttpRequest createAsyncRequest(URI uri, HttpMethod httpMethod) throws IOException {
+			this.asyncRequests++;
+			return super.createAsyncRequest(uri, httpMethod);
+		}
+	}
+
 	static class GitHubLinkDiscoverer extends JsonPathLinkDiscoverer {
 
 		public GitHubLinkDiscoverer() {
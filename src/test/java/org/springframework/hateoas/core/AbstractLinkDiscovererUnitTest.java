@@ -17,6 +17,7 @@ package org.springframework.hateoas.core;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static org.junit.Assume.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -26,6 +27,8 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MultiRelLinkDiscoverer;
 
 /**
  * Base class for unit tests for {@link LinkDiscoverer} implementations.
@@ -78,6 +81,23 @@ public abstract class AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().findLinkWithRel("something", getInputStringWithoutLinkContainer()), is(nullValue()));
 	}
 
+	@Test
+	public void findsLinksForMultipleRels() throws Exception {
+
+		assumeThat(getDiscoverer(), is(instanceOf(MultiRelLinkDiscoverer.class)));
+
+		MultiRelLinkDiscoverer discoverer = (MultiRelLinkDiscoverer) getDiscoverer();
+		Links links = discoverer.findLinks(getInputString(), "self", "relation", "something");
+
+		assertThat(links.getLink("self"), is(new Link("selfHref")));
+		assertThat(links.getLinks("relation"),
+				contains(new Link("firstHref", "relation"), new Link("secondHref", "relation")));
+		assertThat(links.hasLink("something"), is(false));
+
+		InputStream inputStream = new ByteArrayInputStream(getInputString().getBytes("UTF-8"));
+		assertThat(discoverer.findLinks(inputStream, "self", "relation"), is(links));
+	}
+
 	/**
 	 * Return the {@link LinkDiscoverer} to be tested.
 	 * 
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.hateoas.RelProvider;
+
+/**
+ * Unit tests for {@link CachingRelProvider}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingRelProviderUnitTest {
+
+	@Mock RelProvider delegate;
+
+	@Before
+	public void setUp() {
+
+		when(delegate.getItemResourceRelFor(String.class)).thenReturn("string");
+		when(delegate.getCollectionResourceRelFor(String.class)).thenReturn("strings");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullDelegate() {
+		new CachingRelProvider(null);
+	}
+
+	@Test
+	public void looksUpRelsFromDelegateOnlyOnce() {
+
+		RelProvider provider = new CachingRelProvider(delegate);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(provider.getItemResourceRelFor(String.class), is("string"));
+			assertThat(provider.getCollectionResourceRelFor(String.class), is("strings"));
+		}
+
+		verify(delegate, times(1)).getItemResourceRelFor(String.class);
+		verify(delegate, times(1)).getCollectionResourceRelFor(String.class);
+	}
+
+	@Test
+	public void doesNotCacheNullRels() {
+
+		RelProvider provider = new CachingRelProvider(delegate);
+
+		assertThat(provider.getItemResourceRelFor(Integer.class), is(nullValue()));
+		assertThat(provider.getItemResourceRelFor(Integer.class), is(nullValue()));
+
+		verify(delegate, times(2)).getItemResourceRelFor(Integer.class);
+	}
+
+	@Test
+	public void clearsCacheOnceLimitIsReached() {
+
+		when(delegate.getItemResourceRelFor(Long.class)).thenReturn("long");
+
+		RelProvider provider = new CachingRelProvider(delegate, 1);
+
+		provider.getItemResourceRelFor(String.class);
+		provider.getItemResourceRelFor(Long.class);
+		provider.getItemResourceRelFor(String.class);
+
+		verify(delegate, times(2)).getItemResourceRelFor(String.class);
+	}
+
+	@Test
+	public void delegatesSupports() {
+
+		when(delegate.supports(String.class)).thenReturn(true);
+
+		assertThat(new CachingRelProvider(delegate).supports(String.class), is(true));
+	}
+}
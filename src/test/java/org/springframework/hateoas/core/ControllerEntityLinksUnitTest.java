@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.hamcrest.CoreMatchers;
 import org.junit.Rule;
@@ -33,6 +34,7 @@ import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.ExposesResourceFor;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.LinkBuilderFactory;
 import org.springframework.hateoas.TestUtils;
@@ -119,6 +121,24 @@ public class ControllerEntityLinksUnitTest extends TestUtils {
 		links.linkFor(SampleController.class);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createsLinksToSingleResources() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+		ControllerEntityLinks links = new ControllerEntityLinks(Arrays.asList(SampleController.class), linkBuilderFactory);
+
+		List<Link> result = links.linksToSingleResources(Person.class, Arrays.asList(1L, "with blank", "foo/bar"));
+
+		assertThat(result.size(), is(3));
+		assertThat(result.get(0), is(linkTo(SampleController.class).slash(1L).withSelfRel()));
+		assertThat(result.get(1), is(linkTo(SampleController.class).slash("with blank").withSelfRel()));
+		assertThat(result.get(2), is(linkTo(SampleController.class).slash("foo/bar").withSelfRel()));
+		assertThat(links.linkToSingleResource(Person.class, 1L), is(result.get(0)));
+
+		verify(linkBuilderFactory, times(2)).linkTo(SampleController.class, new Object[0]);
+	}
+
 	@Controller
 	@ExposesResourceFor(Person.class)
 	@RequestMapping("/person")
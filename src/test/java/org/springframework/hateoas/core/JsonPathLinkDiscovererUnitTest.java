@@ -15,7 +15,12 @@
  */
 package org.springframework.hateoas.core;
 
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
 import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
 
 /**
  * Unit tests for {@link JsonPathLinkDiscoverer}.
@@ -38,4 +43,34 @@ public class JsonPathLinkDiscovererUnitTest {
 	public void rejectsPatternWithMultiplePlaceholders() {
 		new JsonPathLinkDiscoverer("$links%s%s", null);
 	}
+
+	@Test
+	public void findsLinksForDifferentRelsRepeatedly() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links.%s.href", null);
+		String source = "{ \"links\" : { \"self\" : { \"href\" : \"selfHref\" }, \"next\" : { \"href\" : \"nextHref\" } } }";
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(discoverer.findLinkWithRel("self", source), is(new Link("selfHref")));
+			assertThat(discoverer.findLinkWithRel("next", source), is(new Link("nextHref", "next")));
+		}
+	}
+
+	@Test
+	public void findsLinksForMultipleRelsInOneGo() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links.%s.href", null);
+		String source = "{ \"links\" : { \"self\" : { \"href\" : \"selfHref\" }, \"next\" : { \"href\" : \"nextHref\" } } }";
+
+		Links links = discoverer.findLinks(source, "self", "next", "prev");
+
+		assertThat(links.getLink("self"), is(new Link("selfHref")));
+		assertThat(links.getLink("next"), is(new Link("nextHref", "next")));
+		assertThat(links.hasLink("prev"), is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMissingRelsForMultipleLinkLookup() {
+		new JsonPathLinkDiscoverer("$.links.%s.href", null).findLinks("{}");
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
+
+/**
+ * Unit tests for {@link LinkTemplate}.
+ * 
+ * @author agent
+ */
+public class LinkTemplateUnitTest {
+
+	LinkTemplate template = new LinkTemplate("http://localhost/people/", "/addresses");
+
+	@Test
+	public void placesIdentifierBetweenPrefixAndSuffix() {
+
+		Link link = template.expand(4711, Link.REL_SELF);
+
+		assertThat(link.getHref(), is("http://localhost/people/4711/addresses"));
+		assertThat(link.getRel(), is(Link.REL_SELF));
+	}
+
+	@Test
+	public void unwrapsIdentifiables() {
+
+		Identifiable<Long> identifiable = new Identifiable<Long>() {
+
+			@Override
+			public Long getId() {
+				return 42L;
+			}
+		};
+
+		assertThat(template.expand(identifiable, "person").getHref(), is("http://localhost/people/42/addresses"));
+	}
+
+	@Test
+	public void encodesIdentifiersAsPathSegment() {
+
+		assertThat(template.expand("foo/bar baz", "foo").getHref(), is("http://localhost/people/foo%2Fbar%20baz/addresses"));
+		assertThat(template.expand("..", "foo").getHref(), is("http://localhost/people/%2E%2E/addresses"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullIdentifier() {
+		template.expand((Object) null, "foo");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyIdentifier() {
+		template.expand("", "foo");
+	}
+
+	@Test
+	public void exposesTemplateAsString() {
+		assertThat(template.toString(), is("http://localhost/people/{id}/addresses"));
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.core.UriSyntaxUtils.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UriSyntaxUtils}.
+ *
+ * @author agent
+ */
+public class UriSyntaxUtilsUnitTest {
+
+	@Test
+	public void detectsUnreservedStrings() {
+
+		assertThat(isUnreserved("aZ09-._~"), is(true));
+		assertThat(isUnreserved("with blank"), is(false));
+		assertThat(isUnreserved("a/b"), is(false));
+		assertThat(isUnreserved(""), is(false));
+		assertThat(isUnreserved((String) null), is(false));
+	}
+
+	@Test
+	public void detectsPathLiterals() {
+
+		assertThat(isPathLiteral("/foo/bar-1"), is(true));
+		assertThat(isPathLiteral(""), is(true));
+		assertThat(isPathLiteral("/foo?bar"), is(false));
+		assertThat(isPathLiteral("/f%20o"), is(false));
+	}
+
+	@Test
+	public void detectsNormalizedPaths() {
+
+		assertThat(isNormalizedPath("http://localhost/foo/bar", 16), is(true));
+		assertThat(isNormalizedPath("/foo/bar/", 0), is(true));
+		assertThat(isNormalizedPath("/foo/.bar/..baz", 0), is(true));
+		assertThat(isNormalizedPath("/foo//bar", 0), is(false));
+		assertThat(isNormalizedPath("/foo/./bar", 0), is(false));
+		assertThat(isNormalizedPath("/foo/..", 0), is(false));
+	}
+}
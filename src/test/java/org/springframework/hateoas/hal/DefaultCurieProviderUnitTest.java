@@ -96,4 +96,13 @@ public class DefaultCurieProviderUnitTest {
 	public void doesNotPrefixQualifiedRelsForRelAsString() {
 		assertThat(provider.getNamespacedRelFor("custom:rel"), is("custom:rel"));
 	}
+
+	@Test
+	public void returnsSameNamespacedRelForRepeatedLookups() {
+
+		String rel = provider.getNamespacedRelFor("book");
+
+		assertThat(provider.getNamespacedRelFor("book"), is(sameInstance(rel)));
+		assertThat(provider.getNamespacedRelFor("self"), is("self"));
+	}
 }
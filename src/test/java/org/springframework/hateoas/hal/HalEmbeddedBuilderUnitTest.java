@@ -19,6 +19,8 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -174,6 +176,21 @@ public class HalEmbeddedBuilderUnitTest {
 		new HalEmbeddedBuilder(provider, curieProvider, false).add(mock(EmbeddedWrapper.class));
 	}
 
+	@Test
+	public void doesNotModifyCollectionsHandedIn() {
+
+		EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
+		List<String> values = new ArrayList<String>(Arrays.asList("first", "second"));
+
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(provider, null, false);
+		builder.add(wrappers.wrap(values));
+		builder.add("third");
+		builder.add("fourth");
+
+		assertThat(values, hasSize(2));
+		assertHasValues(builder.asMap(), "strings", "first", "second", "third", "fourth");
+	}
+
 	@SuppressWarnings("unchecked")
 	private static void assertHasValues(Map<String, Object> source, String rel, Object... values) {
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceSupport;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link HalEmbeddedIterator}.
+ *
+ * @author agent
+ */
+public class HalEmbeddedIteratorUnitTest {
+
+	static final String PAGE = "{\"_embedded\":{\"pojos\":[{\"text\":\"test1\",\"number\":1},{\"text\":\"test2\",\"number\":2}],"
+			+ "\"others\":{\"text\":\"test3\",\"number\":3}},\"_links\":{\"next\":{\"href\":\"foo\"}},"
+			+ "\"page\":{\"size\":2,\"totalElements\":4,\"totalPages\":2,\"number\":0}}";
+
+	ObjectMapper mapper;
+
+	@Before
+	public void setUp() {
+
+		this.mapper = new ObjectMapper();
+		this.mapper.registerModule(new Jackson2HalModule());
+	}
+
+	@Test
+	public void returnsEmbeddedItemsOfAllRelsInDocumentOrder() throws Exception {
+
+		HalEmbeddedIterator<SimplePojo> iterator = iteratorFor(PAGE);
+
+		assertThat(iterator.next(), is(new SimplePojo("test1", 1)));
+		assertThat(iterator.next(), is(new SimplePojo("test2", 2)));
+		assertThat(iterator.next(), is(new SimplePojo("test3", 3)));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void exposesRemainderOfDocument() throws Exception {
+
+		HalEmbeddedIterator<SimplePojo> iterator = iteratorFor(PAGE);
+
+		assertThat(iterator.next(), is(new SimplePojo("test1", 1)));
+
+		PagedResources<?> document = iterator.getDocument(PagedResources.class);
+
+		assertThat(document.getContent(), is(empty()));
+		assertThat(document.getNextLink(), is(new Link("foo", Link.REL_NEXT)));
+		assertThat(document.getMetadata().getTotalPages(), is(2L));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void exposesPropertiesPrecedingEmbeddedItems() throws Exception {
+
+		HalEmbeddedIterator<SimplePojo> iterator = iteratorFor("{\"_links\":{\"self\":{\"href\":\"foo\"}},"
+				+ "\"_embedded\":{\"pojos\":[{\"text\":\"test1\",\"number\":1}]}}");
+
+		assertThat(iterator.hasNext(), is(true));
+		assertThat(iterator.next(), is(new SimplePojo("test1", 1)));
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.getDocument(ResourceSupport.class).getId(), is(new Link("foo")));
+	}
+
+	@Test
+	public void readsEmbeddedResources() throws Exception {
+
+		InputStream source = new ByteArrayInputStream(("{\"_embedded\":{\"pojos\":[{\"text\":\"test1\",\"number\":1,"
+				+ "\"_links\":{\"self\":{\"href\":\"localhost\"}}}]}}").getBytes("UTF-8"));
+
+		HalEmbeddedIterator<Resource<SimplePojo>> iterator = new HalEmbeddedIterator<Resource<SimplePojo>>(mapper, source,
+				mapper.getTypeFactory().constructType(new TypeReference<Resource<SimplePojo>>() {}));
+
+		Resource<SimplePojo> resource = iterator.next();
+
+		assertThat(resource.getContent(), is(new SimplePojo("test1", 1)));
+		assertThat(resource.getId(), is(new Link("localhost")));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	public void returnsNoItemsForDocumentWithoutEmbeddeds() throws Exception {
+
+		HalEmbeddedIterator<SimplePojo> iterator = iteratorFor("{\"_links\":{\"self\":{\"href\":\"foo\"}}}");
+
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(iterator.getDocument(ResourceSupport.class).getId(), is(new Link("foo")));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void rejectsNextIfNoMoreItemsAvailable() throws Exception {
+		iteratorFor("{}").next();
+	}
+
+	@Test(expected = JsonMappingException.class)
+	public void rejectsDocumentNotBeingAnObject() throws Exception {
+		iteratorFor("[]");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsAccessToDocumentAfterClosingIteratorEarly() throws Exception {
+
+		HalEmbeddedIterator<SimplePojo> iterator = iteratorFor(PAGE);
+		iterator.next();
+		iterator.close();
+
+		iterator.getDocument(PagedResources.class);
+	}
+
+	private HalEmbeddedIterator<SimplePojo> iteratorFor(String source) throws IOException {
+		return new HalEmbeddedIterator<SimplePojo>(mapper, new ByteArrayInputStream(source.getBytes("UTF-8")),
+				SimplePojo.class);
+	}
+}
@@ -15,11 +15,16 @@
  */
 package org.springframework.hateoas.hal;
 
-import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
 import org.junit.Test;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
 
 /**
@@ -29,7 +34,7 @@ import org.springframework.hateoas.core.AbstractLinkDiscovererUnitTest;
  */
 public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 
-	static final LinkDiscoverer discoverer = new HalLinkDiscoverer();
+	static final HalLinkDiscoverer discoverer = new HalLinkDiscoverer();
 	static final String SAMPLE = "{ _links : { self : { href : 'selfHref' }, " + //
 			"relation : [ { href : 'firstHref' }, { href : 'secondHref' }], " + //
 			"'http://foo.com/bar' : { href : 'fullRelHref' }, " + "}}";
@@ -42,6 +47,63 @@ public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().findLinkWithRel("http://foo.com/bar", SAMPLE), is(notNullValue()));
 	}
 
+	@Test
+	public void ignoresLinksOfEmbeddedResources() {
+
+		String source = "{ \"_embedded\" : { \"items\" : [ { \"_links\" : { \"next\" : { \"href\" : \"embeddedHref\" } } } ] }, "
+				+ "\"_links\" : { \"next\" : { \"href\" : \"nextHref\" } } }";
+
+		assertThat(getDiscoverer().findLinksWithRel("next", source), contains(new Link("nextHref", "next")));
+	}
+
+	@Test
+	public void stopsReadingTheRepresentationOnceTheLinkIsFound() {
+
+		String source = "{ \"_links\" : { \"next\" : { \"href\" : \"nextHref\" } }, \"_embedded\" : [ invalid";
+
+		assertThat(getDiscoverer().findLinkWithRel("next", source), is(new Link("nextHref", "next")));
+	}
+
+	@Test
+	public void findsLinksInInputStream() throws Exception {
+
+		List<Link> links = getDiscoverer().findLinksWithRel("relation",
+				new ByteArrayInputStream(SAMPLE.getBytes("UTF-8")));
+
+		assertThat(links, contains(new Link("firstHref", "relation"), new Link("secondHref", "relation")));
+	}
+
+	@Test
+	public void stopsReadingTheInputStreamOnceTheLinkIsFound() throws Exception {
+
+		StringBuilder builder = new StringBuilder("{ \"_links\" : { \"self\" : { \"href\" : \"selfHref\" } }, \"items\" : [");
+
+		for (int i = 0; i < 10000; i++) {
+			builder.append(i == 0 ? "" : ", ").append("{ \"name\" : \"item\" }");
+		}
+
+		ByteArrayInputStream stream = new ByteArrayInputStream(builder.append("] }").toString().getBytes("UTF-8"));
+
+		assertThat(getDiscoverer().findLinkWithRel("self", stream), is(new Link("selfHref")));
+		assertThat(stream.available(), is(greaterThan(0)));
+	}
+
+	@Test
+	public void returnsNoLinksForNonObjectRepresentation() {
+		assertThat(getDiscoverer().findLinksWithRel("self", "[]"), is(empty()));
+	}
+
+	@Test
+	public void findsAllLinksIfNoRelsGiven() {
+
+		String source = "{ \"_links\" : { \"self\" : { \"href\" : \"selfHref\" }, "
+				+ "\"next\" : [ { \"href\" : \"firstHref\" }, { \"href\" : \"secondHref\" } ] } }";
+
+		Links links = discoverer.findLinks(source);
+
+		assertThat(links, contains(new Link("selfHref"), new Link("firstHref", "next"), new Link("secondHref", "next")));
+	}
+
 	@Override
 	protected LinkDiscoverer getDiscoverer() {
 		return discoverer;
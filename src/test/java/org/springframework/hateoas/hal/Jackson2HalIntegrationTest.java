@@ -39,7 +39,11 @@ import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 
 /**
  * Integration tests for Jackson 2 HAL integration.
@@ -119,6 +123,49 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(read(LIST_LINK_REFERENCE, ResourceSupport.class), is(expected));
 	}
 
+	@Test
+	public void rendersLinksGroupedByRelInOrderOfFirstAppearance() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("foo", "foo"));
+		resourceSupport.add(new Link("localhost"));
+		resourceSupport.add(new Link("foo2", "foo"));
+
+		assertThat(write(resourceSupport),
+				is("{\"_links\":{\"foo\":[{\"href\":\"foo\"},{\"href\":\"foo2\"}],\"self\":{\"href\":\"localhost\"}}}"));
+	}
+
+	@Test
+	public void rendersManyLinksGroupedByRel() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		StringBuilder expected = new StringBuilder("{\"_links\":{");
+
+		for (int i = 0; i < 50; i++) {
+			resourceSupport.add(new Link("localhost" + i, "rel" + i % 25));
+		}
+
+		for (int i = 0; i < 25; i++) {
+			expected.append(i == 0 ? "" : ",").append("\"rel").append(i).append("\":[");
+			expected.append("{\"href\":\"localhost").append(i).append("\"},");
+			expected.append("{\"href\":\"localhost").append(i + 25).append("\"}]");
+		}
+
+		assertThat(write(resourceSupport), is(expected.append("}}").toString()));
+	}
+
+	@Test
+	public void rendersLinksOrderedByRelIfConfigured() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("localhost"));
+		resourceSupport.add(new Link("foo", "foo"));
+
+		mapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+		assertThat(write(resourceSupport), is("{\"_links\":{\"foo\":{\"href\":\"foo\"},\"self\":{\"href\":\"localhost\"}}}"));
+	}
+
 	@Test
 	public void rendersSimpleResourcesAsEmbedded() throws Exception {
 
@@ -280,6 +327,20 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(result, is(setupAnnotatedPagedResources()));
 	}
 
+	@Test
+	public void rendersCuriesAtSortedPositionIfOrderedByRel() throws Exception {
+
+		Resources<Object> resources = new Resources<Object>(Collections.emptySet(), new Link("foo"), new Link("bar",
+				"zzz"), new Link("baz", "aaa"));
+
+		ObjectMapper mapper = getCuriedObjectMapper();
+		mapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+		assertThat(mapper.writeValueAsString(resources), is("{\"_links\":{"
+				+ "\"curies\":[{\"href\":\"http://localhost:8080/rels/{rel}\",\"name\":\"foo\",\"templated\":true}],"
+				+ "\"foo:aaa\":{\"href\":\"baz\"},\"foo:zzz\":{\"href\":\"bar\"},\"self\":{\"href\":\"foo\"}}}"));
+	}
+
 	/**
 	 * @see #125
 	 */
@@ -361,6 +422,66 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resources), is("{\"_embedded\":{\"pojos\":[]}}"));
 	}
 
+	@Test
+	public void rendersEmbeddedsOfDifferentTypesOrderedByRelIfConfigured() throws Exception {
+
+		List<Object> values = new ArrayList<Object>();
+		values.add(new SimpleAnnotatedPojo("test1", 1));
+		values.add("first");
+		values.add(new SimpleAnnotatedPojo("test2", 2));
+
+		mapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+		assertThat(write(new Resources<Object>(values)), is("{\"_embedded\":{\"content\":[\"first\"],"
+				+ "\"pojos\":[{\"text\":\"test1\",\"number\":1},{\"text\":\"test2\",\"number\":2}]}}"));
+	}
+
+	@Test
+	public void rendersSingleEmbeddedElementUnwrappedIfConfigured() throws Exception {
+
+		mapper.enable(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED);
+
+		assertThat(write(new Resources<String>(Arrays.asList("first"))), is("{\"_embedded\":{\"content\":\"first\"}}"));
+	}
+
+	@Test
+	public void deserializesLinkTemplate() throws Exception {
+
+		ResourceSupport result = read(LINK_TEMPLATE, ResourceSupport.class);
+
+		assertThat(result.getLinks(), hasSize(1));
+		assertThat(result.getLink("search").isTemplated(), is(true));
+		assertThat(result.getLink("search").expand("baz").getHref(), is("/foo?bar=baz"));
+	}
+
+	@Test
+	public void ignoresAdditionalLinkAttributesOnDeserialization() throws Exception {
+
+		String source = "{\"_links\":{\"self\":{\"name\":\"foo\",\"href\":\"localhost\",\"title\":{\"en\":\"bar\"}},"
+				+ "\"next\":[{\"rel\":\"ignored\",\"href\":\"next\"},null]}}";
+
+		mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+		ResourceSupport result = read(source, ResourceSupport.class);
+
+		assertThat(result.getLinks(), hasSize(2));
+		assertThat(result.getLink(Link.REL_SELF), is(new Link("localhost")));
+		assertThat(result.getLink(Link.REL_NEXT), is(new Link("next", Link.REL_NEXT)));
+	}
+
+	@Test(expected = UnrecognizedPropertyException.class)
+	public void rejectsUnknownLinkAttributesIfConfigured() throws Exception {
+
+		mapper.enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+		read("{\"_links\":{\"self\":{\"href\":\"localhost\",\"title\":\"foo\"}}}", ResourceSupport.class);
+	}
+
+	@Test(expected = JsonMappingException.class)
+	public void rejectsLinkWithoutHref() throws Exception {
+		read("{\"_links\":{\"self\":{\"templated\":true}}}", ResourceSupport.class);
+	}
+
 	private static Resources<Resource<SimpleAnnotatedPojo>> setupAnnotatedPagedResources() {
 
 		List<Resource<SimpleAnnotatedPojo>> content = new ArrayList<Resource<SimpleAnnotatedPojo>>();
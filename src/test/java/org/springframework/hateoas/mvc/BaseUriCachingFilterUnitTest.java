@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonControllerImpl;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link BaseUriCachingFilter}.
+ *
+ * @author agent
+ */
+public class BaseUriCachingFilterUnitTest extends TestUtils {
+
+	BaseUriCachingFilter filter = new BaseUriCachingFilter();
+
+	@Test
+	public void cachesBaseUriAsRequestAttribute() throws Exception {
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(BaseUri.getCached(request), is(notNullValue()));
+	}
+
+	@Test
+	public void createsSameLinksAsWithoutCaching() throws Exception {
+
+		request.setContextPath("/context");
+		request.addHeader("X-Forwarded-Host", "somethingDifferent:4711");
+		request.addHeader("X-Forwarded-Ssl", "on");
+
+		Link uncached = linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5)).withSelfRel();
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		Link cached = linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5)).withSelfRel();
+
+		assertThat(cached, is(uncached));
+		assertThat(cached.getHref(), startsWith("https://somethingDifferent:4711/context/something/1/foo"));
+	}
+
+	@Test
+	public void usesCachedBaseUriForSubsequentLinks() throws Exception {
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+
+		Link link = linkTo(PersonControllerImpl.class).withSelfRel();
+		assertThat(link.getHref(), is("http://localhost/people"));
+	}
+
+	@Test
+	public void doesNotCacheBaseUriWithoutFilter() {
+
+		linkTo(PersonControllerImpl.class).withSelfRel();
+
+		assertThat(BaseUri.getCached(request), is(nullValue()));
+	}
+}
@@ -21,6 +21,7 @@ import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.joda.time.DateTime;
@@ -31,6 +32,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.core.LinkTemplate;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ControllerWithMethods;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonControllerImpl;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
@@ -160,6 +162,44 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 				endsWith("/sample/multivaluemapsupport?key1=value1a&key1=value1b&key2=value2a&key2=value2b"));
 	}
 
+	@Test
+	public void createsLinkTemplateForPathVariable() {
+
+		LinkTemplate template = factory.linkTemplateTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("0"),
+				"id");
+		List<Link> links = template.expand(Arrays.<Object> asList(1, "second", "with blank"), Link.REL_SELF);
+
+		assertThat(links, hasSize(3));
+		assertThat(links.get(0).getHref(),
+				is(factory.linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("1")).toString()));
+		assertThat(links.get(1).getHref(), endsWith("/something/second/foo"));
+		assertThat(links.get(2).getHref(), endsWith("/something/with%20blank/foo"));
+		assertPointsToMockServer(links.get(0));
+	}
+
+	@Test
+	public void linkTemplateKeepsRequestParameters() {
+
+		MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<String, String>();
+		queryParams.add("page", "1");
+
+		LinkTemplate template = factory.linkTemplateTo(
+				methodOn(ControllerWithPathVariableAndParameters.class).method(0L, queryParams), "id");
+
+		assertThat(template.expand(4711L, "foo").getHref(), endsWith("/sample/4711/items?page=1"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownVariableForLinkTemplate() {
+		factory.linkTemplateTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("0"), "unknown");
+	}
+
+	static interface ControllerWithPathVariableAndParameters {
+
+		@RequestMapping("/sample/{id}/items")
+		HttpEntity<?> method(@PathVariable("id") Long id, @RequestParam MultiValueMap<String, String> queryParams);
+	}
+
 	static interface SampleController {
 
 		@RequestMapping("/sample/{id}")
@@ -435,6 +435,34 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref(), endsWith("/bar"));
 	}
 
+	@Test
+	public void linksToMethodWithoutProxy() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodForNextPage", String.class, Integer.class,
+				Integer.class);
+
+		Link link = linkToMethod(method, "1", 10, 5).withSelfRel();
+		Link reference = linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5)).withSelfRel();
+
+		assertThat(link, is(reference));
+	}
+
+	@Test
+	public void linksToInheritedMethodWithoutProxyUsingTypeMappingOfGivenType() throws Exception {
+
+		Method method = ParentControllerWithoutRootMapping.class.getMethod("someEmptyMappedMethod");
+
+		Link link = linkToMethod(ChildControllerWithRootMapping.class, method).withSelfRel();
+		assertThat(link.getHref(), endsWith("/root"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsArgumentsNotMatchingMethodParameters() throws Exception {
+
+		Method method = ControllerWithMethods.class.getDeclaredMethod("methodWithPathVariable", String.class);
+		linkToMethod(method, "1", "2");
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.getHref()).build();
 	}
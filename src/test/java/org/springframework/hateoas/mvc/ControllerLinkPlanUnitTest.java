@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ChildControllerWithRootMapping;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.ParentControllerWithoutRootMapping;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link ControllerLinkPlan}.
+ *
+ * @author agent
+ */
+public class ControllerLinkPlanUnitTest {
+
+	@Test
+	public void exposesCombinedMappingAndVariableNames() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+		ControllerLinkPlan plan = ControllerLinkPlan.of(PersonsAddressesController.class, method);
+
+		assertThat(plan.getMapping(), is("/people/{id}/addresses/{country}"));
+		assertThat(plan.getVariableNames(), contains("id", "country"));
+		assertThat(plan.getParameters().getParameters(), hasSize(1));
+	}
+
+	@Test
+	public void cachesPlanPerTypeAndMethod() throws Exception {
+
+		Method method = PersonsAddressesController.class.getMethod("getAddressesForCountry", String.class);
+
+		assertThat(ControllerLinkPlan.of(PersonsAddressesController.class, method),
+				is(sameInstance(ControllerLinkPlan.of(PersonsAddressesController.class, method))));
+	}
+
+	@Test
+	public void usesTypeMappingOfGivenTypeForInheritedMethod() throws Exception {
+
+		Method method = ParentControllerWithoutRootMapping.class.getMethod("someEmptyMappedMethod");
+
+		ControllerLinkPlan plan = ControllerLinkPlan.of(ChildControllerWithRootMapping.class, method);
+
+		assertThat(plan.getMapping(), is("/root"));
+	}
+
+	@Test
+	public void usesVariableNamesFromTemplateNotFromParameters() throws Exception {
+
+		Method method = SampleController.class.getMethod("someMethod", Long.class);
+
+		assertThat(ControllerLinkPlan.of(SampleController.class, method).getVariableNames(), contains("identifier"));
+	}
+
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@RequestMapping("/{identifier}")
+		public HttpEntity<Void> someMethod(@PathVariable("identifier") Long id) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.hateoas.mvc.DirectLinkRenderer.CompiledMapping;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link DirectLinkRenderer}.
+ *
+ * @author agent
+ */
+public class DirectLinkRendererUnitTest {
+
+	static final BaseUri BASE = new BaseUri(UriComponentsBuilder.fromUriString("http://localhost:8080/context").build());
+	static final MultiValueMap<String, String> NO_PARAMETERS = new LinkedMultiValueMap<String, String>();
+
+	@Test
+	public void rendersMappingWithVariables() {
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("id", 4711);
+		values.put("country", "DE");
+
+		String uri = render(BASE, "/people/{id}/addresses/{country:[A-Z]+}", values, NO_PARAMETERS);
+
+		assertThat(uri, is("http://localhost:8080/context/people/4711/addresses/DE"));
+	}
+
+	@Test
+	public void rendersRequestParametersGroupedByName() {
+
+		MultiValueMap<String, String> parameters = new LinkedMultiValueMap<String, String>();
+		parameters.add("page", "1");
+		parameters.add("sort", "name");
+		parameters.add("page", "2");
+
+		String uri = render(BASE, "/people", Collections.<String, Object> emptyMap(), parameters);
+
+		assertThat(uri, is("http://localhost:8080/context/people?page=1&page=2&sort=name"));
+	}
+
+	@Test
+	public void omitsDefaultPortAndAddsLeadingSlash() {
+
+		BaseUri base = new BaseUri(UriComponentsBuilder.fromUriString("https://example.com").build());
+
+		assertThat(render(base, "people", Collections.<String, Object> emptyMap(), NO_PARAMETERS),
+				is("https://example.com/people"));
+	}
+
+	@Test
+	public void rejectsValuesThatRequireEncoding() {
+
+		assertThat(render(BASE, "/people/{id}", Collections.singletonMap("id", "foo bar"), NO_PARAMETERS),
+				is(nullValue()));
+		assertThat(render(BASE, "/people/{id}", Collections.singletonMap("id", "foo/bar"), NO_PARAMETERS),
+				is(nullValue()));
+		assertThat(render(BASE, "/people/{id}", Collections.singletonMap("id", "ä"), NO_PARAMETERS), is(nullValue()));
+	}
+
+	@Test
+	public void rejectsEmptyAndMissingValues() {
+
+		assertThat(render(BASE, "/people/{id}", Collections.singletonMap("id", ""), NO_PARAMETERS), is(nullValue()));
+		assertThat(render(BASE, "/people/{id}", Collections.singletonMap("id", null), NO_PARAMETERS), is(nullValue()));
+		assertThat(render(BASE, "/people/{id}", Collections.<String, Object> emptyMap(), NO_PARAMETERS), is(nullValue()));
+	}
+
+	@Test
+	public void rejectsPathsThatWouldBeNormalized() {
+
+		assertThat(render(BASE, "/people/{id}", Collections.singletonMap("id", ".."), NO_PARAMETERS), is(nullValue()));
+		assertThat(render(BASE, "/people/./{id}", Collections.singletonMap("id", "1"), NO_PARAMETERS), is(nullValue()));
+		assertThat(render(BASE, "//people", Collections.<String, Object> emptyMap(), NO_PARAMETERS), is(nullValue()));
+	}
+
+	@Test
+	public void rejectsRequestParametersThatRequireEncoding() {
+
+		MultiValueMap<String, String> parameters = new LinkedMultiValueMap<String, String>();
+		parameters.add("q", "foo&bar");
+
+		assertThat(render(BASE, "/people", Collections.<String, Object> emptyMap(), parameters), is(nullValue()));
+	}
+
+	@Test
+	public void doesNotCompileMappingWithLiteralsRequiringEncoding() {
+
+		assertThat(CompiledMapping.compile("/people/{id}/foo bar"), is(nullValue()));
+		assertThat(CompiledMapping.compile("/people/{id"), is(nullValue()));
+		assertThat(CompiledMapping.compile("/people/{id}/{/foo}"), is(nullValue()));
+	}
+
+	private static String render(BaseUri base, String mapping, Map<String, ?> values,
+			MultiValueMap<String, String> parameters) {
+		return DirectLinkRenderer.render(base, CompiledMapping.compile(mapping), values, parameters);
+	}
+}
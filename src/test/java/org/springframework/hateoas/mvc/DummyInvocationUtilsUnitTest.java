@@ -15,9 +15,16 @@
  */
 package org.springframework.hateoas.mvc;
 
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.hateoas.core.DummyInvocationUtils.*;
+
+import java.lang.reflect.Method;
+
 import org.junit.Test;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +43,51 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 
 	}
 
+	@Test
+	public void reusesProxyClassForSubsequentInvocations() {
+
+		SampleController first = methodOn(SampleController.class);
+		SampleController second = methodOn(SampleController.class);
+
+		assertThat(first, is(not(sameInstance(second))));
+		assertThat(first.getClass(), is(equalTo((Object) second.getClass())));
+	}
+
+	@Test
+	public void keepsInvocationsOfProxiesSeparate() {
+
+		SampleController first = methodOn(SampleController.class);
+		SampleController second = methodOn(SampleController.class);
+
+		Object firstResult = first.someMethod(1L);
+		second.someMethod(2L);
+
+		LastInvocationAware invocations = (LastInvocationAware) firstResult;
+		assertThat(invocations.getLastInvocation().getArguments()[0], is((Object) 1L));
+	}
+
+	@Test
+	public void createsInvocationWithoutProxy() throws Exception {
+
+		Method method = SampleController.class.getDeclaredMethod("someMethod", Long.class);
+		LastInvocationAware invocations = invocationOf(SampleController.class, method, 1L);
+
+		assertThat(invocations.getLastInvocation().getMethod(), is(method));
+		assertThat(invocations.getLastInvocation().getTargetType(), is(equalTo((Object) SampleController.class)));
+		assertThat(invocations.getLastInvocation().getArguments()[0], is((Object) 1L));
+		assertThat(invocations.getObjectParameters().hasNext(), is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMethodNotDeclaredOnType() throws Exception {
+		invocationOf(String.class, SampleController.class.getDeclaredMethod("someMethod", Long.class), 1L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidNumberOfArguments() throws Exception {
+		invocationOf(SampleController.class, SampleController.class.getDeclaredMethod("someMethod", Long.class));
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 
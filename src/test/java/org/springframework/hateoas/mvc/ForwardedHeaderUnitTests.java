@@ -1,5 +1,5 @@
 /*
- * Copyright 2014 the original author or authors.
+ * Copyright 2014-2015 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 /**
  * Unit tests for {@link ForwardedHeader}.
@@ -55,4 +56,62 @@ public class ForwardedHeaderUnitTests {
 		assertThat(header.getHost(), is(nullValue()));
 		assertThat(header.getProto(), is(nullValue()));
 	}
+
+	@Test
+	public void usesValuesOfFirstForwardedElementOnly() {
+
+		ForwardedHeader header = ForwardedHeader.of("for=192.0.2.43;host=first, for=198.51.100.17;proto=https;host=second");
+
+		assertThat(header.getHost(), is("first"));
+		assertThat(header.getProto(), is(nullValue()));
+	}
+
+	@Test
+	public void readsQuotedValues() {
+
+		ForwardedHeader header = ForwardedHeader
+				.of("for=\"[2001:db8:cafe::17]:4711\"; Host=\"example.com:8080\";proto=\"ht\\tps\"");
+
+		assertThat(header.getHost(), is("example.com:8080"));
+		assertThat(header.getProto(), is("https"));
+	}
+
+	@Test
+	public void skipsQuotedValuesContainingDelimiters() {
+
+		ForwardedHeader header = ForwardedHeader.of("for=\"a;b,c\";proto=http");
+
+		assertThat(header.getProto(), is("http"));
+	}
+
+	@Test
+	public void ignoresWhitespaceAndMalformedPairs() {
+
+		ForwardedHeader header = ForwardedHeader.of(" foo ; proto = http ;=;host= localhost ");
+
+		assertThat(header.getProto(), is("http"));
+		assertThat(header.getHost(), is("localhost"));
+	}
+
+	@Test
+	public void returnsNullObjectForHeaderWithoutKnownParameters() {
+
+		ForwardedHeader header = ForwardedHeader.of("for=192.0.2.60;by=203.0.113.43");
+
+		assertThat(header.getHost(), is(nullValue()));
+		assertThat(header.getProto(), is(nullValue()));
+	}
+
+	@Test
+	public void cachesHeaderParsedFromRequest() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(ForwardedHeader.NAME, "proto=https");
+
+		ForwardedHeader header = ForwardedHeader.forRequest(request);
+
+		assertThat(header.getProto(), is("https"));
+		assertThat(request.getAttribute(ForwardedHeader.ATTRIBUTE_NAME), is((Object) header));
+		assertThat(ForwardedHeader.forRequest(request), is(sameInstance(header)));
+	}
 }
@@ -19,8 +19,12 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -99,6 +103,113 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result, hasItems(firstResource, secondResource));
 	}
 
+	@Test
+	public void assemblesResourcesInParallelPreservingOrder() {
+
+		List<Person> people = createPeople(10);
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+
+			assembler.setExecutor(executor);
+			assembler.setParallelThreshold(3);
+
+			List<PersonResource> result = assembler.toResources(people);
+
+			assertThat(result.size(), is(10));
+
+			for (int i = 0; i < result.size(); i++) {
+				assertPointsToMockServer(result.get(i).getId());
+				assertThat(result.get(i).getId().getHref(), endsWith("/people/" + i));
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void assemblesResourcesSequentiallyBelowThreshold() {
+
+		assembler.setExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				fail("Executor must not be used below threshold!");
+			}
+		});
+
+		assertThat(assembler.toResources(Arrays.asList(person)).size(), is(1));
+	}
+
+	@Test
+	public void splitsEntitiesIntoChunksPerParallelism() {
+
+		QueueingExecutor executor = new QueueingExecutor();
+
+		assembler.setExecutor(executor);
+		assembler.setParallelThreshold(3);
+		assembler.setParallelism(4);
+
+		assertThat(assembler.toResources(createPeople(10)).size(), is(10));
+		assertThat(executor.commands.size(), is(3));
+	}
+
+	@Test
+	public void assemblesChunksNotStartedByExecutorInCallingThread() {
+
+		QueueingExecutor executor = new QueueingExecutor();
+
+		assembler.setExecutor(executor);
+		assembler.setParallelThreshold(3);
+		assembler.setParallelism(3);
+
+		List<PersonResource> result = assembler.toResources(createPeople(10));
+
+		assertThat(executor.commands.size(), is(2));
+		assertThat(result.size(), is(10));
+
+		for (int i = 0; i < result.size(); i++) {
+			assertThat(result.get(i).getId().getHref(), endsWith("/people/" + i));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidParallelThreshold() {
+		assembler.setParallelThreshold(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidParallelism() {
+		assembler.setParallelism(0);
+	}
+
+	private static List<Person> createPeople(int number) {
+
+		List<Person> people = new ArrayList<Person>();
+
+		for (long i = 0; i < number; i++) {
+			Person person = new Person();
+			person.id = i;
+			people.add(person);
+		}
+
+		return people;
+	}
+
+	/**
+	 * {@link Executor} that only queues the commands handed to it but never runs them.
+	 */
+	static class QueueingExecutor implements Executor {
+
+		final List<Runnable> commands = new ArrayList<Runnable>();
+
+		@Override
+		public void execute(Runnable command) {
+			commands.add(command);
+		}
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 